@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups the listed ranges into batches and orders the batches over the load slots, for files of random sizes. No
+ * file is read, so only the planning cost is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchingBenchmark {
+  private static final long MAX_FILE_BYTES = 256L * 1024 * 1024;
+
+  @Param({"10000", "100000"})
+  public int files;
+
+  @Param({"1", "100"})
+  public int batchMaxFiles;
+
+  private final List<FileRange> ranges = new ArrayList<>();
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    for (int i = 0; i < files; i++) {
+      // Mostly small files with a few large ones, like the output of a skewed job
+      long length = random.nextInt(10) == 0 ? (long) (random.nextDouble() * MAX_FILE_BYTES) : random.nextInt(65536);
+      FileStatus file = new FileStatus(length, false, 1, 128L * 1024 * 1024, 0, new Path("/load/part-" + i));
+      ranges.add(new FileRange(file, 0, length));
+    }
+  }
+
+  @Benchmark
+  public List<LoadBatch> group() {
+    LoadBatch.Grouper grouper = new LoadBatch.Grouper(MAX_FILE_BYTES, batchMaxFiles);
+    List<LoadBatch> batches = new ArrayList<>();
+    for (FileRange range : ranges) {
+      batches.addAll(grouper.add(range));
+    }
+    batches.addAll(grouper.flush());
+    return batches;
+  }
+
+  @Benchmark
+  public long[] schedule() {
+    LoadScheduler scheduler = new LoadScheduler(8);
+    return scheduler.predictSlotBytes(scheduler.order(group()));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Delimited files written to a local temporary directory, read through the Hadoop local {@link FileSystem} like the
+ * plugin reads HDFS.
+ */
+final class BenchmarkFiles {
+  private final FileSystem fs;
+  private final java.nio.file.Path dir;
+
+  private BenchmarkFiles(FileSystem fs, java.nio.file.Path dir) {
+    this.fs = fs;
+    this.dir = dir;
+  }
+
+  /**
+   * Writes the given number of files of {@code id,value} rows, in subdirectories of at most 100 files.
+   */
+  static BenchmarkFiles create(int files, int rowsPerFile) throws IOException {
+    java.nio.file.Path dir = Files.createTempDirectory("vertica-bulk-load-benchmark");
+    for (int f = 0; f < files; f++) {
+      java.nio.file.Path subdir = dir.resolve(String.format("dir-%05d", f / 100));
+      Files.createDirectories(subdir);
+      try (BufferedWriter writer = Files.newBufferedWriter(subdir.resolve(String.format("part-%05d.csv", f)),
+                                                           StandardCharsets.UTF_8)) {
+        for (int r = 0; r < rowsPerFile; r++) {
+          writer.write(r + ",value-" + f + "-" + r + "\n");
+        }
+      }
+    }
+    return new BenchmarkFiles(FileSystem.getLocal(new Configuration()), dir);
+  }
+
+  FileSystem getFileSystem() {
+    return fs;
+  }
+
+  Path getPath() {
+    return new Path(dir.toUri());
+  }
+
+  /**
+   * Returns a range covering each file.
+   */
+  List<FileRange> ranges() throws IOException {
+    List<FileRange> ranges = new ArrayList<>();
+    for (FileStatus subdir : fs.listStatus(getPath())) {
+      for (FileStatus file : fs.listStatus(subdir.getPath())) {
+        ranges.add(new FileRange(file, 0, file.getLen()));
+      }
+    }
+    return ranges;
+  }
+
+  void delete() throws IOException {
+    try (Stream<java.nio.file.Path> paths = Files.walk(dir)) {
+      for (java.nio.file.Path path : (Iterable<java.nio.file.Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(path);
+      }
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lists a directory tree of files with {@link FileDiscovery}, with and without an include pattern.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscoveryBenchmark {
+
+  @Param({"1000", "10000"})
+  public int files;
+
+  @Param({"", "*.csv"})
+  public String include;
+
+  private BenchmarkFiles benchmarkFiles;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    benchmarkFiles = BenchmarkFiles.create(files, 1);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    benchmarkFiles.delete();
+  }
+
+  @Benchmark
+  public int list(Blackhole blackhole) throws IOException {
+    FileDiscovery discovery = new FileDiscovery(benchmarkFiles.getFileSystem(), benchmarkFiles.getPath(), true,
+                                                include.isEmpty() ? null : include, null);
+    RemoteIterator<LocatedFileStatus> listing = discovery.list();
+    int count = 0;
+    while (listing.hasNext()) {
+      blackhole.consume(listing.next());
+      count++;
+    }
+    return count;
+  }
+}
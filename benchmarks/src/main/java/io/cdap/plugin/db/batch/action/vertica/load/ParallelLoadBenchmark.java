@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import io.cdap.cdap.etl.mock.common.NoopMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads a directory of files with parallel {@link LoadWorker}s into {@link FakeCopySink}s, which parse the rows and
+ * simulate the latency of each COPY execution, so that the client side of the load is measured end to end.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelLoadBenchmark {
+  private static final String COPY_STATEMENT = "COPY benchmark FROM STDIN DELIMITER ','";
+
+  @Param({"1", "4", "8"})
+  public int parallelism;
+
+  @Param({"1", "10"})
+  public int batchMaxFiles;
+
+  @Param({"0", "4"})
+  public int readAheadBuffers;
+
+  @Param({"0", "5"})
+  public int executeLatencyMillis;
+
+  private BenchmarkFiles benchmarkFiles;
+  private List<FileRange> ranges;
+  private VerticaImportConfig config;
+  private ExecutorService executor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    benchmarkFiles = BenchmarkFiles.create(200, 5000);
+    ranges = benchmarkFiles.ranges();
+    config = VerticaImportConfig.builder(new VerticaImportConfig(
+      "jdbc:vertica://localhost:5433/benchmark", null, null, "Basic", "benchmark", ",", null,
+      benchmarkFiles.getPath().toString(), "false"))
+      .setParallelism(parallelism)
+      .setBatchMaxFiles(batchMaxFiles)
+      .setReadAheadBuffers(readAheadBuffers)
+      .build();
+    executor = Executors.newFixedThreadPool(parallelism);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    executor.shutdownNow();
+    benchmarkFiles.delete();
+  }
+
+  @Benchmark
+  public long load() throws Exception {
+    LoadQueue batches = new LoadQueue();
+    LoadMetrics metrics = new LoadMetrics(NoopMetrics.INSTANCE);
+    RejectTracker rejectTracker = new RejectTracker(benchmarkFiles.getFileSystem(), null);
+    List<Future<LoadResult>> results = new ArrayList<>();
+    for (int i = 0; i < parallelism; i++) {
+      FakeCopySink sink = new FakeCopySink(",", 2, executeLatencyMillis);
+      results.add(executor.submit(new LoadWorker(sink, null, COPY_STATEMENT, benchmarkFiles.getFileSystem(),
+                                                 batches, config, null, metrics, rejectTracker, null)));
+    }
+    LoadBatch.Grouper grouper = new LoadBatch.Grouper(config.getBatchMaxBytes(), config.getBatchMaxFiles());
+    for (FileRange range : ranges) {
+      grouper.add(range).forEach(batches::add);
+    }
+    grouper.flush().forEach(batches::add);
+    batches.close();
+
+    long rows = 0;
+    for (Future<LoadResult> result : results) {
+      rows += result.get().getRowsInserted();
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import io.cdap.cdap.etl.mock.common.NoopMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads every file of a directory as the COPY stream would, directly or through the read-ahead buffers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadAheadBenchmark {
+  private static final LoadMetrics METRICS = new LoadMetrics(NoopMetrics.INSTANCE);
+
+  @Param({"0", "4"})
+  public int readAheadBuffers;
+
+  @Param({"65536", "1048576"})
+  public int readAheadBufferSize;
+
+  private BenchmarkFiles benchmarkFiles;
+  private List<FileRange> ranges;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    benchmarkFiles = BenchmarkFiles.create(100, 20000);
+    ranges = benchmarkFiles.ranges();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    benchmarkFiles.delete();
+  }
+
+  @Benchmark
+  public long read() throws IOException {
+    byte[] buffer = new byte[65536];
+    long bytes = 0;
+    if (readAheadBuffers == 0) {
+      for (FileRange range : ranges) {
+        try (InputStream in = new LazyRangeInputStream(range, benchmarkFiles.getFileSystem(), METRICS)) {
+          bytes += drain(in, buffer);
+        }
+      }
+      return bytes;
+    }
+    try (ReadAheadReader reader = new ReadAheadReader(benchmarkFiles.getFileSystem(), METRICS, readAheadBuffers,
+                                                      readAheadBufferSize, "benchmark-reader")) {
+      for (FileRange range : ranges) {
+        try (InputStream in = reader.open(range)) {
+          bytes += drain(in, buffer);
+        }
+      }
+    }
+    return bytes;
+  }
+
+  private static long drain(InputStream in, byte[] buffer) throws IOException {
+    long bytes = 0;
+    int n;
+    while ((n = in.read(buffer)) >= 0) {
+      bytes += n;
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Routes the listed files to the COPY statement that loads them, and groups the files of each statement into batches.
+ * Files are loaded with the statement of the load, of their table mapping or of their Hive partition. The load method
+ * of the generated statements can be chosen as the files are listed by a {@link LoadMethodSelector}, in which case
+ * the files listed once the load is large enough are batched separately for their new statement.
+ */
+final class BatchRouter {
+  private final String copyStatement;
+  private final HivePartitions partitions;
+  private final List<TableMapping> mappings;
+  private final long maxBytes;
+  private final int maxRanges;
+  private final LoadMethodSelector selector;
+  private final Map<String, LoadBatch.Grouper> groupers = new LinkedHashMap<>();
+
+  BatchRouter(String copyStatement, @Nullable HivePartitions partitions, List<TableMapping> mappings, long maxBytes,
+              int maxRanges) {
+    this(copyStatement, partitions, mappings, maxBytes, maxRanges, null);
+  }
+
+  /**
+   * Creates a router choosing the load method of the generated statements with the given selector, which must only
+   * be given if the statement of the load is generated.
+   */
+  BatchRouter(String copyStatement, @Nullable HivePartitions partitions, List<TableMapping> mappings, long maxBytes,
+              int maxRanges, @Nullable LoadMethodSelector selector) {
+    this.copyStatement = copyStatement;
+    this.partitions = partitions;
+    this.mappings = mappings;
+    this.maxBytes = maxBytes;
+    this.maxRanges = maxRanges;
+    this.selector = selector;
+  }
+
+  /**
+   * Returns the grouper of the batches loading a file, given by its path relative to the loaded path, or {@code null}
+   * if the load fans out to several tables and no mapping matches the file.
+   */
+  @Nullable
+  LoadBatch.Grouper route(String relativePath) {
+    String statement = copyStatement;
+    String table = null;
+    boolean generated = true;
+    if (!mappings.isEmpty()) {
+      TableMapping mapping = TableMapping.find(mappings, relativePath);
+      if (mapping == null) {
+        return null;
+      }
+      statement = mapping.getCopyStatement();
+      table = mapping.getTable();
+      generated = mapping.namesTable();
+    } else if (partitions != null) {
+      statement = partitions.buildStatement(partitions.parse(relativePath));
+    }
+    if (selector != null && generated) {
+      statement = selector.apply(statement);
+    }
+    String batchTable = table;
+    return groupers.computeIfAbsent(statement, s -> new LoadBatch.Grouper(maxBytes, maxRanges, s, batchTable));
+  }
+
+  /**
+   * Returns the batches of the remaining ranges of every statement.
+   */
+  List<LoadBatch> flush() {
+    List<LoadBatch> completed = new ArrayList<>();
+    for (LoadBatch.Grouper grouper : groupers.values()) {
+      completed.addAll(grouper.flush());
+    }
+    return completed;
+  }
+}
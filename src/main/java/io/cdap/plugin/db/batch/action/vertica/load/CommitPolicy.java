@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides when a connection commits the data it loaded. Data is committed after each batch with auto commit, once
+ * enough bytes, rows or time have accumulated since the last commit with a commit cadence, and only at the end of the
+ * load otherwise. Commits only happen between executions of the COPY stream, so a cadence is checked after each batch.
+ */
+final class CommitPolicy {
+  private final boolean everyBatch;
+  private final long maxBytes;
+  private final long maxRows;
+  private final long maxNanos;
+
+  CommitPolicy(boolean everyBatch, long maxBytes, long maxRows, long maxSeconds) {
+    this.everyBatch = everyBatch;
+    this.maxBytes = maxBytes;
+    this.maxRows = maxRows;
+    this.maxNanos = TimeUnit.SECONDS.toNanos(maxSeconds);
+  }
+
+  static CommitPolicy of(VerticaImportConfig config) {
+    return new CommitPolicy(config.getAutoCommit().equalsIgnoreCase("true"), config.getCommitBytes(),
+                            config.getCommitRows(), config.getCommitIntervalSeconds());
+  }
+
+  /**
+   * Returns whether data is committed during the load, rather than only once every file is loaded.
+   */
+  boolean isIncremental() {
+    return everyBatch || maxBytes > 0 || maxRows > 0 || maxNanos > 0;
+  }
+
+  /**
+   * Returns whether rows must be counted to apply the policy.
+   */
+  boolean isCountingRows() {
+    return maxRows > 0;
+  }
+
+  /**
+   * Returns whether to commit after a batch, given what was loaded since the last commit.
+   *
+   * @param rows the number of rows loaded since the last commit, or {@code -1} if they were not counted
+   */
+  boolean shouldCommit(long bytes, long rows, long nanos) {
+    return everyBatch
+      || (maxBytes > 0 && bytes >= maxBytes)
+      || (maxRows > 0 && rows >= maxRows)
+      || (maxNanos > 0 && nanos >= maxNanos);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * The connections of a load. Connections are opened through the Vertica driver directly, so that the driver is loaded
+ * once per class loader and never registered with the {@link java.sql.DriverManager}, and released connections are
+ * reused, so that validating, reading the manifest, preparing and publishing a load share the same authenticated
+ * session as long as it is not loading, instead of paying a connection handshake each.
+ * Connections are only closed when the pool is closed.
+ */
+final class ConnectionPool implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(ConnectionPool.class);
+  private static final String DRIVER_CLASS = "com.vertica.jdbc.Driver";
+  private static volatile Driver driver;
+
+  private final VerticaImportConfig config;
+  private final List<Connection> opened = new ArrayList<>();
+  private final Deque<Connection> idle = new ArrayDeque<>();
+
+  ConnectionPool(VerticaImportConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Returns a released connection, or a new connection to the connection string if none is idle. The connection
+   * does not auto commit.
+   */
+  synchronized Connection acquire() throws SQLException {
+    Connection connection = idle.poll();
+    return connection == null ? open(config.getConnectionString(), new Properties()) : connection;
+  }
+
+  /**
+   * Returns a connection to the pool for reuse. Its transaction must have been committed or rolled back.
+   */
+  synchronized void release(Connection connection) {
+    if (opened.contains(connection) && !idle.contains(connection)) {
+      idle.push(connection);
+    }
+  }
+
+  /**
+   * Closes a lost connection, which is then neither reused nor closed again with the pool.
+   */
+  synchronized void discard(Connection connection) {
+    opened.remove(connection);
+    idle.remove(connection);
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      LOG.debug("Failed to close lost connection to {}", config.getConnectionString(), e);
+    }
+  }
+
+  /**
+   * Forgets a connection still in use by a worker that did not stop, which is then neither reused nor closed with the
+   * pool. The caller closes it once the worker exits.
+   */
+  synchronized void abandon(Connection connection) {
+    opened.remove(connection);
+    idle.remove(connection);
+  }
+
+  /**
+   * Opens a new connection to the given connection string, with the given properties in addition to the credentials
+   * of the config. The connection does not auto commit, and is closed with the pool.
+   */
+  Connection open(String connectionString, Properties properties) throws SQLException {
+    Properties info = new Properties();
+    info.putAll(properties);
+    if (config.getUser() != null) {
+      info.setProperty("user", config.getUser());
+    }
+    if (config.getPassword() != null) {
+      info.setProperty("password", config.getPassword());
+    }
+    Connection connection = getDriver().connect(connectionString, info);
+    if (connection == null) {
+      throw new SQLException(String.format("Connection string %s is not a Vertica connection string.",
+                                           connectionString));
+    }
+    connection.setAutoCommit(false);
+    synchronized (this) {
+      opened.add(connection);
+    }
+    return connection;
+  }
+
+  @Override
+  public synchronized void close() {
+    for (Connection connection : opened) {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        LOG.warn("Failed to close connection to {}", config.getConnectionString(), e);
+      }
+    }
+    opened.clear();
+    idle.clear();
+  }
+
+  private static Driver getDriver() throws SQLException {
+    if (driver == null) {
+      synchronized (ConnectionPool.class) {
+        if (driver == null) {
+          try {
+            driver = (Driver) Class.forName(DRIVER_CLASS).newInstance();
+          } catch (ReflectiveOperationException e) {
+            throw new SQLException(String.format("Failed to load Vertica driver %s.", DRIVER_CLASS), e);
+          }
+        }
+      }
+    }
+    return driver;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.io.compress.BZip2Codec;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.GzipCodec;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/**
+ * Compression of the bytes sent to Vertica, as named in the COPY statement.
+ */
+enum CopyCompression {
+  UNCOMPRESSED(null),
+  GZIP("GZIP"),
+  BZIP("BZIP");
+
+  private static final Pattern FROM_STDIN = Pattern.compile("\\bFROM\\s+STDIN\\b", Pattern.CASE_INSENSITIVE);
+  private static final Pattern FROM_STDIN_COMPRESSED = Pattern.compile(
+    "\\bFROM\\s+STDIN\\s+(UNCOMPRESSED|GZIP|BZIP|LZO|ZSTD)\\b", Pattern.CASE_INSENSITIVE);
+
+  private final String keyword;
+
+  CopyCompression(@Nullable String keyword) {
+    this.keyword = keyword;
+  }
+
+  /**
+   * Returns the compression Vertica decompresses natively for the given codec. Files compressed with other codecs
+   * have to be decompressed by the client and are sent uncompressed.
+   */
+  static CopyCompression of(@Nullable CompressionCodec codec) {
+    if (codec instanceof GzipCodec) {
+      return GZIP;
+    }
+    if (codec instanceof BZip2Codec) {
+      return BZIP;
+    }
+    return UNCOMPRESSED;
+  }
+
+  /**
+   * Returns whether the copy statement already names the compression of its input, in which case files are sent as
+   * they are.
+   */
+  static boolean isSpecified(String copyStatement) {
+    return FROM_STDIN_COMPRESSED.matcher(copyStatement).find();
+  }
+
+  @Nullable
+  String getKeyword() {
+    return keyword;
+  }
+
+  /**
+   * Returns the copy statement reading this compression from STDIN.
+   */
+  String apply(String copyStatement) {
+    if (keyword == null) {
+      return copyStatement;
+    }
+    Matcher matcher = FROM_STDIN.matcher(copyStatement);
+    if (!matcher.find()) {
+      throw new IllegalArgumentException(
+        String.format("Cannot load %s compressed files with copy statement '%s' that does not read from STDIN.",
+                      keyword, copyStatement));
+    }
+    return copyStatement.substring(0, matcher.end()) + " " + keyword + copyStatement.substring(matcher.end());
+  }
+}
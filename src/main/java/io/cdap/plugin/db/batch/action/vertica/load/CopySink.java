@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Where a worker copies its batches, in COPY sessions started with a COPY statement reading from {@code STDIN}.
+ * Loads go to Vertica through {@link VerticaCopySink}, and other sinks let the load path run without a database.
+ */
+interface CopySink {
+
+  /**
+   * Starts a COPY session with the given statement.
+   */
+  Session start(String copyStatement) throws SQLException;
+
+  /**
+   * Commits the data copied since the last commit.
+   */
+  void commit() throws SQLException;
+
+  /**
+   * Marks the data copied so far, so that the data copied after it can be rolled back on its own. Cannot be called
+   * while a COPY session is running.
+   */
+  void savepoint() throws SQLException;
+
+  /**
+   * Rolls back the data copied since the last savepoint.
+   *
+   * @throws SQLException if there is no savepoint since the last commit, or if the connection was lost
+   */
+  void rollbackToSavepoint() throws SQLException;
+
+  /**
+   * Rolls back the data copied since the last commit, replacing the connection by a new one if it was lost.
+   */
+  void reset() throws SQLException;
+
+  /**
+   * Returns the connection the data is copied through, which records the loaded ranges in the manifest table in the
+   * same transaction.
+   */
+  Connection getConnection();
+
+  /**
+   * A COPY session, which copies the streams added to it on each execution until it is finished.
+   */
+  interface Session {
+
+    void addStream(InputStream stream) throws SQLException;
+
+    /**
+     * Copies the streams added since the last execution.
+     */
+    void execute() throws SQLException, IOException;
+
+    /**
+     * Returns the numbers of the rows rejected by the last execution, numbered from 1 over all its streams.
+     */
+    List<Long> getRejects() throws SQLException;
+
+    /**
+     * Ends the session and returns the number of rows it inserted.
+     */
+    long finish() throws SQLException;
+  }
+}
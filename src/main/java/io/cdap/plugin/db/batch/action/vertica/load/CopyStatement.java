@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import com.google.common.base.Strings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/**
+ * A COPY statement generated by the plugin, such as the statement of the Basic level, of a table mapping naming a
+ * table or of a Hive partition. A statement without a table holds the options shared by the statements of a load,
+ * from which the statement of each table or partition is built. The parsing options of the statement are also used to
+ * check sampled files the way Vertica parses them.
+ */
+final class CopyStatement {
+  static final String STDIN = "STDIN";
+
+  private static final Pattern ENDS_WITH_LOAD_METHOD = Pattern.compile("\\b(AUTO|DIRECT|TRICKLE)\\s*$",
+                                                                       Pattern.CASE_INSENSITIVE);
+
+  /**
+   * How COPY writes the loaded rows. Vertica 10 and later, which no longer have a WOS, accept and ignore these.
+   */
+  enum LoadMethod {
+    // Loads into the WOS, spilling over to the ROS once the WOS is full
+    AUTO,
+    // Loads directly into ROS containers, for large loads
+    DIRECT,
+    // Loads into the WOS only, for small incremental loads
+    TRICKLE
+  }
+
+  private final String table;
+  private final List<String> columns;
+  private final String source;
+  private final String parser;
+  private final String delimiter;
+  private final String enclosedBy;
+  private final String nullAs;
+  private final boolean noEscape;
+  private final Long rejectMax;
+  private final boolean abortOnError;
+  private final LoadMethod loadMethod;
+
+  private CopyStatement(Builder builder) {
+    table = builder.table;
+    columns = Collections.unmodifiableList(new ArrayList<>(builder.columns));
+    source = builder.source;
+    parser = builder.parser;
+    delimiter = builder.delimiter;
+    enclosedBy = builder.enclosedBy;
+    nullAs = builder.nullAs;
+    noEscape = builder.noEscape;
+    rejectMax = builder.rejectMax;
+    abortOnError = builder.abortOnError;
+    loadMethod = builder.loadMethod;
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns a builder of statements copying from STDIN with the format, parsing options, column list and load method
+   * of the Basic level of the given config. The parsing options of delimited text are only set for delimited files.
+   * The load method is left to Vertica, or to a {@link LoadMethodSelector}, unless one is configured.
+   */
+  static Builder builder(VerticaImportConfig config) {
+    Builder builder = builder()
+      .setColumns(config.getCopyColumns())
+      .setRejectMax(config.getRejectMax())
+      .setAbortOnError(config.isAbortOnError())
+      .setLoadMethod(config.getFixedLoadMethod());
+    if (config.isDelimited()) {
+      return builder
+        .setDelimiter(config.getDelimiter())
+        .setEnclosedBy(config.getEnclosedBy())
+        .setNullAs(config.getNullAs())
+        .setNoEscape(config.isNoEscape());
+    }
+    return builder.setParser(parser(config.getFormat()));
+  }
+
+  /**
+   * Returns the clause having COPY parse files of the given format, which is not delimited text.
+   */
+  private static String parser(String format) {
+    if (format.equalsIgnoreCase(VerticaImportConfig.FORMAT_PARQUET)) {
+      return "PARQUET";
+    }
+    if (format.equalsIgnoreCase(VerticaImportConfig.FORMAT_ORC)) {
+      return "ORC";
+    }
+    // Avro files are parsed as they are sent, with the schema of their header
+    return "PARSER FAVROPARSER()";
+  }
+
+  static Builder builder(CopyStatement copy) {
+    return builder()
+      .setTable(copy.table)
+      .setColumns(copy.columns)
+      .setSource(copy.source)
+      .setParser(copy.parser)
+      .setDelimiter(copy.delimiter)
+      .setEnclosedBy(copy.enclosedBy)
+      .setNullAs(copy.nullAs)
+      .setNoEscape(copy.noEscape)
+      .setRejectMax(copy.rejectMax)
+      .setAbortOnError(copy.abortOnError)
+      .setLoadMethod(copy.loadMethod);
+  }
+
+  /**
+   * Returns the given statement loading with the given method, unless it already names its load method. The load
+   * method is the last option of the statements generated by the plugin.
+   */
+  static String withLoadMethod(String copyStatement, LoadMethod loadMethod) {
+    if (ENDS_WITH_LOAD_METHOD.matcher(copyStatement).find()) {
+      return copyStatement;
+    }
+    return copyStatement + " " + loadMethod.name();
+  }
+
+  @Nullable
+  String getTable() {
+    return table;
+  }
+
+  List<String> getColumns() {
+    return columns;
+  }
+
+  /**
+   * Returns whether the statement copies delimited text, rather than files parsed by a parser such as Parquet.
+   */
+  boolean isDelimited() {
+    return parser == null;
+  }
+
+  @Nullable
+  String getDelimiter() {
+    return delimiter;
+  }
+
+  @Nullable
+  String getEnclosedBy() {
+    return enclosedBy;
+  }
+
+  /**
+   * Returns the string read as NULL, which is the empty string unless configured otherwise.
+   */
+  String getNullAs() {
+    return nullAs == null ? "" : nullAs;
+  }
+
+  boolean isNoEscape() {
+    return noEscape;
+  }
+
+  @Nullable
+  LoadMethod getLoadMethod() {
+    return loadMethod;
+  }
+
+  /**
+   * Returns the SQL of the statement, such as {@code COPY table (a, b) FROM STDIN DELIMITER ',' ENCLOSED BY '"'}.
+   */
+  @Override
+  public String toString() {
+    StringBuilder sql = new StringBuilder("COPY ").append(table);
+    if (!columns.isEmpty()) {
+      sql.append(" (").append(String.join(", ", columns)).append(')');
+    }
+    sql.append(" FROM ").append(source);
+    if (parser != null) {
+      sql.append(' ').append(parser);
+    }
+    if (delimiter != null) {
+      sql.append(" DELIMITER ").append(literal(delimiter));
+    }
+    if (enclosedBy != null) {
+      sql.append(" ENCLOSED BY ").append(literal(enclosedBy));
+    }
+    if (nullAs != null) {
+      sql.append(" NULL AS ").append(literal(nullAs));
+    }
+    if (noEscape) {
+      sql.append(" NO ESCAPE");
+    }
+    if (rejectMax != null) {
+      sql.append(" REJECTMAX ").append(rejectMax);
+    }
+    if (abortOnError) {
+      sql.append(" ABORT ON ERROR");
+    }
+    if (loadMethod != null) {
+      sql.append(' ').append(loadMethod.name());
+    }
+    return sql.toString();
+  }
+
+  private static String literal(String value) {
+    return "'" + value.replace("'", "''") + "'";
+  }
+
+  /**
+   * Builder for creating a {@link CopyStatement}.
+   */
+  static final class Builder {
+    private String table;
+    private List<String> columns = Collections.emptyList();
+    private String source = STDIN;
+    private String parser;
+    private String delimiter;
+    private String enclosedBy;
+    private String nullAs;
+    private boolean noEscape;
+    private Long rejectMax;
+    private boolean abortOnError;
+    private LoadMethod loadMethod;
+
+    private Builder() {
+    }
+
+    Builder setTable(String table) {
+      this.table = table;
+      return this;
+    }
+
+    /**
+     * Sets the column list of the statement, which may also contain expressions such as {@code dt AS '2026-10-17'}.
+     */
+    Builder setColumns(List<String> columns) {
+      this.columns = columns;
+      return this;
+    }
+
+    /**
+     * Sets what the statement copies from, {@code STDIN} by default.
+     */
+    Builder setSource(String source) {
+      this.source = source;
+      return this;
+    }
+
+    /**
+     * Sets the clause parsing files that are not delimited text, such as {@code PARQUET}.
+     */
+    Builder setParser(@Nullable String parser) {
+      this.parser = parser;
+      return this;
+    }
+
+    Builder setDelimiter(@Nullable String delimiter) {
+      this.delimiter = delimiter;
+      return this;
+    }
+
+    Builder setEnclosedBy(@Nullable String enclosedBy) {
+      this.enclosedBy = Strings.emptyToNull(enclosedBy);
+      return this;
+    }
+
+    Builder setNullAs(@Nullable String nullAs) {
+      this.nullAs = nullAs;
+      return this;
+    }
+
+    Builder setNoEscape(boolean noEscape) {
+      this.noEscape = noEscape;
+      return this;
+    }
+
+    Builder setRejectMax(@Nullable Long rejectMax) {
+      this.rejectMax = rejectMax;
+      return this;
+    }
+
+    Builder setAbortOnError(boolean abortOnError) {
+      this.abortOnError = abortOnError;
+      return this;
+    }
+
+    Builder setLoadMethod(@Nullable LoadMethod loadMethod) {
+      this.loadMethod = loadMethod;
+      return this;
+    }
+
+    CopyStatement build() {
+      return new CopyStatement(this);
+    }
+  }
+}
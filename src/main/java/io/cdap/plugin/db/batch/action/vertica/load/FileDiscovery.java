@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import com.google.common.base.Strings;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.GlobPattern;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import javax.annotation.Nullable;
+
+/**
+ * Lists the files to load under a path. Files are returned while the file system is still being listed, so that the
+ * load can start before large directory trees have been listed completely. Hidden files and directories, whose names
+ * start with '_' or '.' such as {@code _SUCCESS}, {@code _temporary} or {@code .part-0.crc}, are skipped unless told
+ * otherwise.
+ */
+final class FileDiscovery {
+  private final FileSystem fs;
+  private final Path root;
+  private final boolean recursive;
+  private final String include;
+  private final String exclude;
+  private final boolean skipHidden;
+  private final GlobPattern includePattern;
+  private final GlobPattern excludePattern;
+
+  FileDiscovery(FileSystem fs, Path root, boolean recursive, @Nullable String include, @Nullable String exclude) {
+    this(fs, root, recursive, include, exclude, true);
+  }
+
+  FileDiscovery(FileSystem fs, Path root, boolean recursive, @Nullable String include, @Nullable String exclude,
+                boolean skipHidden) {
+    this.fs = fs;
+    this.root = root;
+    this.recursive = recursive;
+    this.include = include;
+    this.exclude = exclude;
+    this.skipHidden = skipHidden;
+    this.includePattern = Strings.isNullOrEmpty(include) ? null : new GlobPattern(include);
+    this.excludePattern = Strings.isNullOrEmpty(exclude) ? null : new GlobPattern(exclude);
+  }
+
+  /**
+   * Returns the files to load, listing the file system as the iterator advances.
+   */
+  RemoteIterator<LocatedFileStatus> list() throws IOException {
+    RemoteIterator<LocatedFileStatus> files;
+    try {
+      files = fs.listFiles(root, recursive);
+    } catch (FileNotFoundException e) {
+      throw new IllegalArgumentException(
+        String.format("Path %s not found on file system. Please provide correct path.", root), e);
+    }
+    String rootPath = fs.makeQualified(root).toUri().getPath();
+    return new RemoteIterator<LocatedFileStatus>() {
+      private LocatedFileStatus next;
+
+      @Override
+      public boolean hasNext() throws IOException {
+        while (next == null && files.hasNext()) {
+          LocatedFileStatus file = files.next();
+          if (accept(relativize(rootPath, file.getPath().toUri().getPath()))) {
+            next = file;
+          }
+        }
+        return next != null;
+      }
+
+      @Override
+      public LocatedFileStatus next() throws IOException {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        LocatedFileStatus file = next;
+        next = null;
+        return file;
+      }
+    };
+  }
+
+  /**
+   * Returns whether the file at the given path relative to the root should be loaded. Glob patterns containing a '/'
+   * are matched against the relative path, other patterns against the file name only.
+   */
+  boolean accept(String relativePath) {
+    for (String name : relativePath.split("/")) {
+      if (skipHidden && (name.startsWith("_") || name.startsWith(".") || name.endsWith(".crc"))) {
+        return false;
+      }
+    }
+    if (includePattern != null && !matches(include, includePattern, relativePath)) {
+      return false;
+    }
+    return excludePattern == null || !matches(exclude, excludePattern, relativePath);
+  }
+
+  private static boolean matches(String glob, GlobPattern pattern, String relativePath) {
+    if (glob.contains("/")) {
+      return pattern.matches(relativePath);
+    }
+    return pattern.matches(relativePath.substring(relativePath.lastIndexOf('/') + 1));
+  }
+
+  /**
+   * Returns the path of a listed file relative to the listed root.
+   */
+  String relativize(Path file) {
+    return relativize(fs.makeQualified(root).toUri().getPath(), file.toUri().getPath());
+  }
+
+  /**
+   * Returns the path of a listed file relative to the listed root, or its name if the root is the file itself.
+   */
+  private static String relativize(String rootPath, String filePath) {
+    String prefix = rootPath.endsWith("/") ? rootPath : rootPath + "/";
+    if (filePath.startsWith(prefix)) {
+      return filePath.substring(prefix.length());
+    }
+    return filePath.substring(filePath.lastIndexOf('/') + 1);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.compress.CompressionCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * A byte range of a file that is loaded as one unit. The range boundaries are nominal: the records actually loaded are
+ * the ones starting inside the range, see {@link LineAlignedRangeInputStream}.
+ */
+final class FileRange {
+  private final FileStatus file;
+  private final long start;
+  private final long length;
+  private final CompressionCodec codec;
+  private final CopyCompression compression;
+
+  FileRange(FileStatus file, long start, long length) {
+    this(file, start, length, null);
+  }
+
+  FileRange(FileStatus file, long start, long length, @Nullable CompressionCodec codec) {
+    this.file = file;
+    this.start = start;
+    this.length = length;
+    this.codec = codec;
+    this.compression = CopyCompression.of(codec);
+  }
+
+  /**
+   * Returns the whole file as a single range if it is not larger than the split size, or consecutive ranges of the
+   * split size otherwise. A split size of {@code 0} disables splitting.
+   */
+  static List<FileRange> split(FileStatus file, long splitSize) {
+    return split(file, splitSize, null);
+  }
+
+  /**
+   * Splits a file like {@link #split(FileStatus, long)}, except that compressed files are never split since their
+   * record boundaries cannot be found without decompressing them.
+   */
+  static List<FileRange> split(FileStatus file, long splitSize, @Nullable CompressionCodec codec) {
+    if (codec != null || splitSize <= 0 || file.getLen() <= splitSize) {
+      return Collections.singletonList(new FileRange(file, 0, file.getLen(), codec));
+    }
+    List<FileRange> ranges = new ArrayList<>();
+    for (long start = 0; start < file.getLen(); start += splitSize) {
+      ranges.add(new FileRange(file, start, Math.min(splitSize, file.getLen() - start)));
+    }
+    return ranges;
+  }
+
+  FileStatus getFile() {
+    return file;
+  }
+
+  Path getPath() {
+    return file.getPath();
+  }
+
+  long getStart() {
+    return start;
+  }
+
+  long getLength() {
+    return length;
+  }
+
+  /**
+   * Returns the compression of the bytes sent to Vertica for this range.
+   */
+  CopyCompression getCompression() {
+    return compression;
+  }
+
+  boolean isWholeFile() {
+    return start == 0 && length == file.getLen();
+  }
+
+  /**
+   * Opens the records of this range for reading. Files that Vertica cannot decompress are decompressed while reading.
+   */
+  InputStream open(FileSystem fs) throws IOException {
+    return open(fs, bytes -> { });
+  }
+
+  /**
+   * Opens the records of this range for reading, reporting the bytes read from the file system to the given counter.
+   */
+  InputStream open(FileSystem fs, LongConsumer bytesRead) throws IOException {
+    FSDataInputStream inputStream = fs.open(file.getPath());
+    if (!isWholeFile()) {
+      return new CountingInputStream(new LineAlignedRangeInputStream(inputStream, start, start + length), bytesRead);
+    }
+    if (codec != null && compression == CopyCompression.UNCOMPRESSED) {
+      return codec.createInputStream(new CountingInputStream(inputStream, bytesRead));
+    }
+    return new CountingInputStream(inputStream, bytesRead);
+  }
+
+  /**
+   * Opens the records of this range for reading, decompressing them whatever the codec.
+   */
+  InputStream openRecords(FileSystem fs) throws IOException {
+    if (codec != null) {
+      return codec.createInputStream(fs.open(file.getPath()));
+    }
+    return open(fs);
+  }
+
+  @Override
+  public String toString() {
+    return isWholeFile() ? file.getPath().toString() :
+      String.format("%s[%d, %d)", file.getPath(), start, start + length);
+  }
+}
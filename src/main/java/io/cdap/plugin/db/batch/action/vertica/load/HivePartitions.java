@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Routes files laid out in Hive style partition directories, such as {@code path/dt=2026-10-17/part-0}, to a COPY
+ * statement per partition. The partition values are not part of the files, so each statement sets the partition
+ * columns to the values parsed from the directory names.
+ */
+final class HivePartitions {
+  // Hive names the partition of null values this way
+  static final String DEFAULT_PARTITION = "__HIVE_DEFAULT_PARTITION__";
+
+  private final CopyStatement template;
+  private final List<String> columns;
+  private final List<String> dataColumns;
+
+  /**
+   * Creates the partitions of files copied with the given statement. The columns read from the files are the ones of
+   * the column list of the statement, if any, or else the columns of the table that are not partition columns.
+   */
+  HivePartitions(CopyStatement template, List<String> columns, List<String> tableColumns) {
+    this.template = template;
+    this.columns = columns;
+    this.dataColumns = new ArrayList<>();
+    for (String column : template.getColumns().isEmpty() ? tableColumns : template.getColumns()) {
+      if (!containsIgnoreCase(columns, column)) {
+        dataColumns.add(column);
+      }
+    }
+  }
+
+  /**
+   * Creates the partitions of files copied into the table of the given statement, which has the given columns.
+   *
+   * @throws IllegalArgumentException if a partition column is not a column of the table
+   */
+  static HivePartitions of(CopyStatement template, List<String> columns, List<String> tableColumns) {
+    for (String column : columns) {
+      if (!containsIgnoreCase(tableColumns, column)) {
+        throw new IllegalArgumentException(String.format("Partition column %s is not a column of table %s.",
+                                                         column, template.getTable()));
+      }
+    }
+    return new HivePartitions(template, columns, tableColumns);
+  }
+
+  /**
+   * Returns the values of the partition columns, in the configured order, parsed from the {@code column=value}
+   * directories of a path relative to the loaded directory. The value of the Hive default partition is {@code null}.
+   *
+   * @throws IllegalArgumentException if a partition column has no directory in the path
+   */
+  List<String> parse(String relativePath) {
+    String[] directories = relativePath.split("/");
+    String[] values = new String[columns.size()];
+    boolean[] found = new boolean[columns.size()];
+    // The last component is the file name
+    for (int i = 0; i < directories.length - 1; i++) {
+      int separator = directories[i].indexOf('=');
+      if (separator <= 0) {
+        continue;
+      }
+      String name = directories[i].substring(0, separator);
+      for (int c = 0; c < columns.size(); c++) {
+        if (columns.get(c).equalsIgnoreCase(name)) {
+          String value = unescape(directories[i].substring(separator + 1));
+          values[c] = DEFAULT_PARTITION.equals(value) ? null : value;
+          found[c] = true;
+        }
+      }
+    }
+    for (int c = 0; c < columns.size(); c++) {
+      if (!found[c]) {
+        throw new IllegalArgumentException(String.format(
+          "File %s is not in a '%s=<value>' partition directory.", relativePath, columns.get(c)));
+      }
+    }
+    return Arrays.asList(values);
+  }
+
+  /**
+   * Returns the COPY statement loading the files of a partition, which reads the data columns from the files and sets
+   * the partition columns to the given values.
+   */
+  String buildStatement(List<String> values) {
+    List<String> columnList = new ArrayList<>();
+    for (String column : dataColumns) {
+      columnList.add(quoteIdentifier(column));
+    }
+    for (int c = 0; c < columns.size(); c++) {
+      String value = values.get(c);
+      columnList.add(quoteIdentifier(columns.get(c)) + " AS " +
+                       (value == null ? "NULL" : "'" + value.replace("'", "''") + "'"));
+    }
+    // COPY tableName (column, ..., partitionColumn AS 'value') FROM STDIN DELIMITER 'delimiter' ...
+    return CopyStatement.builder(template).setColumns(columnList).build().toString();
+  }
+
+  /**
+   * Decodes the {@code %XX} escapes Hive uses for special characters in partition values.
+   */
+  private static String unescape(String value) {
+    StringBuilder unescaped = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '%' && i + 2 < value.length() && isHex(value.charAt(i + 1)) && isHex(value.charAt(i + 2))) {
+        unescaped.append((char) Integer.parseInt(value.substring(i + 1, i + 3), 16));
+        i += 2;
+      } else {
+        unescaped.append(c);
+      }
+    }
+    return unescaped.toString();
+  }
+
+  private static boolean isHex(char c) {
+    return Character.digit(c, 16) >= 0;
+  }
+
+  private static boolean containsIgnoreCase(List<String> names, String name) {
+    for (String candidate : names) {
+      if (candidate.equalsIgnoreCase(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String quoteIdentifier(String identifier) {
+    return '"' + identifier.replace("\"", "\"\"") + '"';
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FileSystem;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Opens a {@link FileRange} on the first read and closes it as soon as it is exhausted.
+ * The COPY stream reads the streams of a batch one after the other, so only one file of a batch is open at a time no
+ * matter how many streams were added.
+ */
+final class LazyRangeInputStream extends InputStream {
+  private final FileRange range;
+  private final FileSystem fs;
+  private final LoadMetrics metrics;
+  private InputStream in;
+  private boolean exhausted;
+
+  LazyRangeInputStream(FileRange range, FileSystem fs, LoadMetrics metrics) {
+    this.range = range;
+    this.fs = fs;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureOpen()) {
+      return -1;
+    }
+    int b = in.read();
+    if (b < 0) {
+      close();
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (!ensureOpen()) {
+      return -1;
+    }
+    int n = in.read(b, off, len);
+    if (n < 0) {
+      close();
+    }
+    return n;
+  }
+
+  @Override
+  public void close() throws IOException {
+    exhausted = true;
+    if (in != null) {
+      try {
+        in.close();
+      } finally {
+        in = null;
+      }
+    }
+  }
+
+  private boolean ensureOpen() throws IOException {
+    if (exhausted) {
+      return false;
+    }
+    if (in == null) {
+      in = metrics.open(range, fs);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the newline terminated records that start inside the byte range {@code [start, end)} of a file.
+ * A record starting before {@code start} belongs to the previous range, and the record that crosses {@code end} is
+ * read to its end, so that the ranges of a file together return every record exactly once.
+ */
+final class LineAlignedRangeInputStream extends InputStream {
+  private static final byte NEWLINE = '\n';
+  private static final int SCAN_BUFFER_SIZE = 8192;
+
+  private final FSDataInputStream in;
+  private final long start;
+  private final long end;
+  private final byte[] single = new byte[1];
+  private long position;
+  private boolean aligned;
+  private boolean done;
+
+  LineAlignedRangeInputStream(FSDataInputStream in, long start, long end) {
+    this.in = in;
+    this.start = start;
+    this.end = end;
+  }
+
+  @Override
+  public int read() throws IOException {
+    int n = read(single, 0, 1);
+    return n < 0 ? -1 : single[0] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (!aligned) {
+      align();
+    }
+    if (done) {
+      return -1;
+    }
+    if (len == 0) {
+      return 0;
+    }
+    if (position < end) {
+      int n = in.read(b, off, (int) Math.min(len, end - position));
+      if (n < 0) {
+        done = true;
+        return -1;
+      }
+      position += n;
+      // The range ends exactly on a record boundary
+      if (position == end && b[off + n - 1] == NEWLINE) {
+        done = true;
+      }
+      return n;
+    }
+    // Past the end of the range, finish the record that crosses it
+    int n = in.read(b, off, len);
+    if (n < 0) {
+      done = true;
+      return -1;
+    }
+    for (int i = 0; i < n; i++) {
+      if (b[off + i] == NEWLINE) {
+        done = true;
+        position += i + 1;
+        return i + 1;
+      }
+    }
+    position += n;
+    return n;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  /**
+   * Moves to the first record starting at or after {@code start}, which is right after the first newline at or after
+   * {@code start - 1}.
+   */
+  private void align() throws IOException {
+    aligned = true;
+    if (start == 0) {
+      position = 0;
+      return;
+    }
+    position = start - 1;
+    in.seek(position);
+    byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+    while (true) {
+      int n = in.read(buffer, 0, buffer.length);
+      if (n < 0) {
+        done = true;
+        return;
+      }
+      for (int i = 0; i < n; i++) {
+        if (buffer[i] == NEWLINE) {
+          position += i + 1;
+          in.seek(position);
+          // The record starting here belongs to the next range
+          done = position >= end;
+          return;
+        }
+      }
+      position += n;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts the newline terminated records read through a stream, so that the rows of a COPY execution can be mapped
+ * back to the streams they came from. A last record without a trailing newline is counted as well.
+ */
+final class LineCountingInputStream extends FilterInputStream {
+  private long lines;
+  private boolean partial;
+
+  LineCountingInputStream(InputStream in) {
+    super(in);
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = in.read();
+    if (b >= 0) {
+      count(b);
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int n = in.read(b, off, len);
+    for (int i = off; i < off + n; i++) {
+      count(b[i]);
+    }
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    // Skipped bytes must be counted too
+    byte[] buffer = new byte[(int) Math.min(n, 8192)];
+    int read = read(buffer, 0, buffer.length);
+    return Math.max(read, 0);
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  /**
+   * Returns the number of records read so far.
+   */
+  long getLines() {
+    return partial ? lines + 1 : lines;
+  }
+
+  private void count(int b) {
+    if (b == '\n') {
+      lines++;
+      partial = false;
+    } else {
+      partial = true;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * File ranges that are loaded together by a single {@code execute()} of the COPY stream. All the ranges of a batch
+ * are sent with the same compression, since the compression is part of the COPY statement. A batch can also carry
+ * the COPY statement loading it, such as the statement of a Hive partition or of a table mapping, instead of the
+ * statement of the load, and the table it loads when a load fans out to several tables.
+ */
+final class LoadBatch {
+  private final List<FileRange> ranges;
+  private final long length;
+  private final String copyStatement;
+  private final String table;
+
+  LoadBatch(List<FileRange> ranges) {
+    this(ranges, null, null);
+  }
+
+  LoadBatch(List<FileRange> ranges, @Nullable String copyStatement, @Nullable String table) {
+    this.ranges = Collections.unmodifiableList(new ArrayList<>(ranges));
+    this.copyStatement = copyStatement;
+    this.table = table;
+    long length = 0;
+    for (FileRange range : ranges) {
+      length += range.getLength();
+    }
+    this.length = length;
+  }
+
+  /**
+   * Groups ranges into batches of at most {@code maxRanges} ranges as they are listed. A batch is also closed once
+   * adding the next range would take it over {@code maxBytes} bytes, unless {@code maxBytes} is {@code 0}.
+   * Ranges larger than {@code maxBytes} and ranges of split files are placed in a batch of their own, so that the
+   * ranges of a split file can still be loaded concurrently. Ranges with different compressions are never batched
+   * together.
+   */
+  static final class Grouper {
+    private final long maxBytes;
+    private final int maxRanges;
+    private final String copyStatement;
+    private final String table;
+    private final Map<CopyCompression, List<FileRange>> current = new EnumMap<>(CopyCompression.class);
+    private final Map<CopyCompression, Long> currentBytes = new EnumMap<>(CopyCompression.class);
+
+    Grouper(long maxBytes, int maxRanges) {
+      this(maxBytes, maxRanges, null, null);
+    }
+
+    /**
+     * Creates a grouper whose batches are loaded with the given COPY statement, into the given table if the load fans
+     * out to several tables.
+     */
+    Grouper(long maxBytes, int maxRanges, @Nullable String copyStatement, @Nullable String table) {
+      this.maxBytes = maxBytes;
+      this.maxRanges = maxRanges;
+      this.copyStatement = copyStatement;
+      this.table = table;
+    }
+
+    /**
+     * Returns the COPY statement loading the batches of this grouper, or {@code null} to use the statement of the load.
+     */
+    @Nullable
+    String getCopyStatement() {
+      return copyStatement;
+    }
+
+    /**
+     * Adds the next range and returns the batches completed by it.
+     */
+    List<LoadBatch> add(FileRange range) {
+      if (!range.isWholeFile()) {
+        return Collections.singletonList(new LoadBatch(Collections.singletonList(range), copyStatement, table));
+      }
+      CopyCompression compression = range.getCompression();
+      List<FileRange> ranges = current.computeIfAbsent(compression, c -> new ArrayList<>());
+      long bytes = currentBytes.getOrDefault(compression, 0L);
+      List<LoadBatch> completed = Collections.emptyList();
+      boolean full = ranges.size() >= maxRanges || (maxBytes > 0 && bytes + range.getLength() > maxBytes);
+      if (!ranges.isEmpty() && full) {
+        completed = Collections.singletonList(new LoadBatch(ranges, copyStatement, table));
+        ranges.clear();
+        bytes = 0;
+      }
+      ranges.add(range);
+      currentBytes.put(compression, bytes + range.getLength());
+      return completed;
+    }
+
+    /**
+     * Returns the batches of the remaining ranges.
+     */
+    List<LoadBatch> flush() {
+      List<LoadBatch> completed = new ArrayList<>();
+      for (List<FileRange> ranges : current.values()) {
+        if (!ranges.isEmpty()) {
+          completed.add(new LoadBatch(ranges, copyStatement, table));
+        }
+      }
+      current.clear();
+      currentBytes.clear();
+      return completed;
+    }
+  }
+
+  List<FileRange> getRanges() {
+    return ranges;
+  }
+
+  long getLength() {
+    return length;
+  }
+
+  CopyCompression getCompression() {
+    return ranges.get(0).getCompression();
+  }
+
+  /**
+   * Returns the COPY statement loading this batch, or {@code null} to use the statement of the load.
+   */
+  @Nullable
+  String getCopyStatement() {
+    return copyStatement;
+  }
+
+  /**
+   * Returns the table loaded by this batch when the load fans out to several tables, or {@code null} otherwise.
+   */
+  @Nullable
+  String getTable() {
+    return table;
+  }
+
+  @Override
+  public String toString() {
+    if (ranges.size() == 1) {
+      return ranges.get(0).toString();
+    }
+    return String.format("batch of %d ranges from %s to %s", ranges.size(), ranges.get(0),
+                         ranges.get(ranges.size() - 1));
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FileStatus;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Records the file ranges loaded into Vertica in a bookkeeping table, so that reruns skip them. Ranges are recorded on
+ * the connection that loaded them, in the same transaction as their data, so a range is recorded if and only if its
+ * rows are committed. A range is identified by the path, length and modification time of its file, so changed files
+ * are loaded again.
+ *
+ * <p>A deferred manifest keeps the recorded ranges in memory instead, until they are written with
+ * {@link #writeDeferred(Connection)} in the transaction that publishes the data of a staging table.</p>
+ */
+final class LoadManifest {
+  private final String table;
+  private final boolean deferred;
+  private final Set<String> loaded = new HashSet<>();
+  private final List<DeferredBatch> pending = new ArrayList<>();
+
+  LoadManifest(String table) {
+    this(table, false);
+  }
+
+  LoadManifest(String table, boolean deferred) {
+    this.table = table;
+    this.deferred = deferred;
+  }
+
+  /**
+   * Creates the manifest table if needed and reads the ranges already loaded.
+   */
+  void read(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(String.format(
+        "CREATE TABLE IF NOT EXISTS %s (path VARCHAR(65000) NOT NULL, range_start INT NOT NULL, " +
+          "range_length INT NOT NULL, file_length INT NOT NULL, modification_time INT NOT NULL, rows_loaded INT, " +
+          "loaded_at TIMESTAMP DEFAULT NOW())", table));
+      connection.commit();
+      try (ResultSet rs = statement.executeQuery(String.format(
+        "SELECT path, range_start, range_length, file_length, modification_time FROM %s", table))) {
+        while (rs.next()) {
+          loaded.add(key(rs.getString(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)));
+        }
+      }
+    }
+  }
+
+  boolean isLoaded(FileRange range) {
+    return loaded.contains(key(range));
+  }
+
+  /**
+   * Returns whether the recorded ranges are kept in memory until they are written, rather than written as they are
+   * recorded.
+   */
+  boolean isDeferred() {
+    return deferred;
+  }
+
+  /**
+   * Records the ranges of a batch on the connection that loaded them, without committing. The number of rows is only
+   * known per range for batches of a single range, and is left empty otherwise.
+   */
+  void record(Connection connection, List<FileRange> ranges, @Nullable Long rowsLoaded) throws SQLException {
+    if (deferred) {
+      synchronized (pending) {
+        pending.add(new DeferredBatch(ranges, rowsLoaded));
+      }
+      return;
+    }
+    insert(connection, ranges, rowsLoaded);
+  }
+
+  /**
+   * Writes the ranges recorded by a deferred manifest on the given connection, without committing.
+   */
+  void writeDeferred(Connection connection) throws SQLException {
+    synchronized (pending) {
+      for (DeferredBatch batch : pending) {
+        insert(connection, batch.ranges, batch.rowsLoaded);
+      }
+      pending.clear();
+    }
+  }
+
+  private void insert(Connection connection, List<FileRange> ranges, @Nullable Long rowsLoaded) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(String.format(
+      "INSERT INTO %s (path, range_start, range_length, file_length, modification_time, rows_loaded) " +
+        "VALUES (?, ?, ?, ?, ?, ?)", table))) {
+      for (FileRange range : ranges) {
+        FileStatus file = range.getFile();
+        statement.setString(1, file.getPath().toString());
+        statement.setLong(2, range.getStart());
+        statement.setLong(3, range.getLength());
+        statement.setLong(4, file.getLen());
+        statement.setLong(5, file.getModificationTime());
+        if (rowsLoaded == null || ranges.size() > 1) {
+          statement.setNull(6, Types.BIGINT);
+        } else {
+          statement.setLong(6, rowsLoaded);
+        }
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  private static String key(FileRange range) {
+    FileStatus file = range.getFile();
+    return key(file.getPath().toString(), range.getStart(), range.getLength(), file.getLen(),
+               file.getModificationTime());
+  }
+
+  private static String key(String path, long start, long length, long fileLength, long modificationTime) {
+    return String.format("%s[%d,%d) %d@%d", path, start, length, fileLength, modificationTime);
+  }
+
+  private static final class DeferredBatch {
+    private final List<FileRange> ranges;
+    private final Long rowsLoaded;
+
+    private DeferredBatch(List<FileRange> ranges, @Nullable Long rowsLoaded) {
+      this.ranges = ranges;
+      this.rowsLoaded = rowsLoaded;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+/**
+ * Chooses the load method of the generated COPY statements from the number of bytes to load. Large loads are written
+ * straight to ROS containers with {@code DIRECT}, so that they do not fill the WOS and wait for it to be moved out,
+ * while small incremental loads are left to {@code AUTO}, so that they do not each create small ROS containers for
+ * the Tuple Mover to merge. Since the files are loaded while they are listed, the statements switch to {@code DIRECT}
+ * once the files listed so far reach the threshold.
+ */
+final class LoadMethodSelector {
+  private final long directThresholdBytes;
+  private long listedBytes;
+
+  LoadMethodSelector(long directThresholdBytes) {
+    this.directThresholdBytes = directThresholdBytes;
+  }
+
+  /**
+   * Counts the bytes of a listed file, which are loaded unless later {@link #skipped(long) skipped}.
+   */
+  void listed(long bytes) {
+    listedBytes += bytes;
+  }
+
+  /**
+   * Stops counting bytes that turned out not to be loaded, such as ranges already recorded in the manifest.
+   */
+  void skipped(long bytes) {
+    listedBytes -= bytes;
+  }
+
+  CopyStatement.LoadMethod select() {
+    return select(listedBytes);
+  }
+
+  /**
+   * Returns the load method of a load of the given number of bytes.
+   */
+  CopyStatement.LoadMethod select(long bytes) {
+    return bytes >= directThresholdBytes ? CopyStatement.LoadMethod.DIRECT : CopyStatement.LoadMethod.AUTO;
+  }
+
+  /**
+   * Returns the given generated statement with the load method of the bytes listed so far, unless it names its own.
+   * Statements of small loads are left as they are, since {@code AUTO} is the default of COPY.
+   */
+  String apply(String copyStatement) {
+    CopyStatement.LoadMethod loadMethod = select();
+    return loadMethod == CopyStatement.LoadMethod.AUTO ? copyStatement :
+      CopyStatement.withLoadMethod(copyStatement, loadMethod);
+  }
+}
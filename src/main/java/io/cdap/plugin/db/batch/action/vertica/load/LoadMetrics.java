@@ -0,0 +1,254 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import io.cdap.cdap.etl.api.StageMetrics;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+/**
+ * Emits the progress of a load as it runs, so that slow loads can be noticed while they are still running. Shared by
+ * all the workers of a load. Byte counts are accumulated and emitted in steps, to keep the metrics calls off the
+ * per-read path. When a load fans out to several tables, the file and row counts are also emitted per table, with the
+ * table name appended to the metric name, such as {@code rows.inserted.orders}. The bytes loaded through each node
+ * are emitted the same way when the connections are spread over the nodes of the cluster.
+ */
+final class LoadMetrics {
+  static final String BYTES_READ = "bytes.read";
+  static final String BYTES_SENT = "bytes.sent";
+  static final String FILES_COMPLETED = "files.completed";
+  static final String ROWS_INSERTED = "rows.inserted";
+  static final String ROWS_REJECTED = "rows.rejected";
+  static final String ROWS_PER_SEC = "rows.per.sec";
+  static final String BYTES_PER_SEC = "bytes.per.sec";
+  static final String OPEN_MS = "file.open.ms";
+  static final String STREAM_MS = "file.stream.ms";
+  static final String COMMIT_MS = "commit.ms";
+  static final String COMMITS = "commits";
+  static final String NODE_BYTES = "node.bytes";
+  static final String NODE_BYTES_PER_SEC = "node.bytes.per.sec";
+  static final String RETRIES = "retries";
+  static final String BYTES_WASTED = "bytes.wasted";
+
+  // Bytes accumulated before they are emitted
+  private static final long EMIT_BYTES = 1024 * 1024;
+
+  private final StageMetrics metrics;
+  private final long startNanos = System.nanoTime();
+  private final Counter bytesRead = new Counter(BYTES_READ);
+  private final Counter bytesSent = new Counter(BYTES_SENT);
+  private final AtomicLong rowsInserted = new AtomicLong();
+  private final AtomicLong retries = new AtomicLong();
+  private final AtomicLong bytesWasted = new AtomicLong();
+  // Bytes loaded so far of the files that are split into several ranges
+  private final Map<Path, AtomicLong> splitFileBytes = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> nodeBytes = new ConcurrentHashMap<>();
+
+  LoadMetrics(StageMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Opens the range for reading, timing the open and counting the bytes read from the file system.
+   */
+  InputStream open(FileRange range, FileSystem fs) throws IOException {
+    long start = System.nanoTime();
+    InputStream in = range.open(fs, bytesRead::add);
+    count(OPEN_MS, elapsedMillis(start));
+    return in;
+  }
+
+  /**
+   * Returns the stream counting the bytes sent to Vertica.
+   */
+  InputStream sent(InputStream in) {
+    return new CountingInputStream(in, bytesSent::add);
+  }
+
+  /**
+   * Records the execution of the COPY stream for a batch.
+   */
+  void batchLoaded(LoadBatch batch, long streamNanos, int rejected) {
+    count(STREAM_MS, TimeUnit.NANOSECONDS.toMillis(streamNanos));
+    rowsRejected(rejected);
+    int files = 0;
+    for (FileRange range : batch.getRanges()) {
+      if (range.isWholeFile()) {
+        files++;
+      } else {
+        long loaded = splitFileBytes.computeIfAbsent(range.getPath(), path -> new AtomicLong())
+          .addAndGet(range.getLength());
+        if (loaded == range.getFile().getLen()) {
+          splitFileBytes.remove(range.getPath());
+          files++;
+        }
+      }
+    }
+    filesCompleted(files);
+    if (batch.getTable() != null) {
+      count(tagged(FILES_COMPLETED, batch.getTable()), files);
+      count(tagged(ROWS_REJECTED, batch.getTable()), rejected);
+    }
+  }
+
+  void filesCompleted(int files) {
+    count(FILES_COMPLETED, files);
+    emitThroughput();
+  }
+
+  void rowsRejected(long rows) {
+    count(ROWS_REJECTED, rows);
+  }
+
+  /**
+   * Records the rows inserted by a COPY stream. Vertica only reports them when the stream is finished.
+   */
+  void rowsInserted(long rows) {
+    rowsInserted(rows, null);
+  }
+
+  /**
+   * Records the rows inserted by a COPY stream into the given table, if the load fans out to several tables.
+   */
+  void rowsInserted(long rows, @Nullable String table) {
+    rowsInserted.addAndGet(rows);
+    count(ROWS_INSERTED, rows);
+    if (table != null) {
+      count(tagged(ROWS_INSERTED, table), rows);
+    }
+    emitThroughput();
+  }
+
+  /**
+   * Records the bytes of a batch loaded through the given node.
+   */
+  void nodeLoaded(String node, long bytes) {
+    nodeBytes.computeIfAbsent(node, n -> new AtomicLong()).addAndGet(bytes);
+    count(tagged(NODE_BYTES, node), bytes);
+  }
+
+  /**
+   * Returns the bytes loaded through each node so far.
+   */
+  Map<String, Long> getNodeBytes() {
+    Map<String, Long> bytes = new TreeMap<>();
+    for (Map.Entry<String, AtomicLong> entry : nodeBytes.entrySet()) {
+      bytes.put(entry.getKey(), entry.getValue().get());
+    }
+    return bytes;
+  }
+
+  void committed(long nanos) {
+    count(COMMITS, 1);
+    count(COMMIT_MS, TimeUnit.NANOSECONDS.toMillis(nanos));
+  }
+
+  /**
+   * Records a retry of a failed batch, whose bytes are loaded again.
+   */
+  void retried(long batchBytes) {
+    retries.incrementAndGet();
+    count(RETRIES, 1);
+    wasted(batchBytes);
+  }
+
+  /**
+   * Records bytes that were loaded and rolled back, or lost with their connection, and are loaded again.
+   */
+  void wasted(long bytes) {
+    bytesWasted.addAndGet(bytes);
+    count(BYTES_WASTED, bytes);
+  }
+
+  long getRetries() {
+    return retries.get();
+  }
+
+  long getBytesWasted() {
+    return bytesWasted.get();
+  }
+
+  /**
+   * Emits the bytes counted but not yet emitted.
+   */
+  void flush() {
+    bytesRead.flush();
+    bytesSent.flush();
+    emitThroughput();
+  }
+
+  private void emitThroughput() {
+    long elapsedMillis = Math.max(1, elapsedMillis(startNanos));
+    metrics.gauge(ROWS_PER_SEC, rowsInserted.get() * 1000 / elapsedMillis);
+    metrics.gauge(BYTES_PER_SEC, bytesSent.total() * 1000 / elapsedMillis);
+    for (Map.Entry<String, AtomicLong> entry : nodeBytes.entrySet()) {
+      metrics.gauge(tagged(NODE_BYTES_PER_SEC, entry.getKey()), entry.getValue().get() * 1000 / elapsedMillis);
+    }
+  }
+
+  private void count(String name, long delta) {
+    while (delta > 0) {
+      int step = (int) Math.min(Integer.MAX_VALUE, delta);
+      metrics.count(name, step);
+      delta -= step;
+    }
+  }
+
+  static String tagged(String name, String table) {
+    return name + "." + table;
+  }
+
+  private static long elapsedMillis(long startNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
+  /**
+   * A byte counter emitted every {@link #EMIT_BYTES} bytes.
+   */
+  private final class Counter {
+    private final String name;
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+
+    private Counter(String name) {
+      this.name = name;
+    }
+
+    void add(long bytes) {
+      total.addAndGet(bytes);
+      if (pending.addAndGet(bytes) >= EMIT_BYTES) {
+        flush();
+      }
+    }
+
+    void flush() {
+      count(name, pending.getAndSet(0));
+    }
+
+    long total() {
+      return total.get();
+    }
+  }
+}
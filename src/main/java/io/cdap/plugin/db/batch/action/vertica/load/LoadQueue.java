@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.util.PriorityQueue;
+import javax.annotation.Nullable;
+
+/**
+ * Batches waiting to be loaded, shared by the load workers while the files are still being listed. Workers take the
+ * largest batch available, see {@link LoadScheduler}. The queue is closed once the listing is complete, after which
+ * workers stop as soon as it is empty.
+ */
+final class LoadQueue {
+  private final PriorityQueue<LoadBatch> batches = new PriorityQueue<>(11, LoadScheduler.LARGEST_FIRST);
+  private boolean closed;
+  private boolean aborted;
+
+  synchronized void add(LoadBatch batch) {
+    if (closed) {
+      // Aborted
+      return;
+    }
+    batches.add(batch);
+    notifyAll();
+  }
+
+  /**
+   * Marks the end of the listing.
+   */
+  synchronized void close() {
+    closed = true;
+    notifyAll();
+  }
+
+  /**
+   * Drops the batches not yet taken and closes the queue, so that the workers stop after their current batch.
+   */
+  synchronized void abort() {
+    aborted = true;
+    batches.clear();
+    close();
+  }
+
+  /**
+   * Returns whether the load was stopped, in which case the workers must not commit what they loaded.
+   */
+  synchronized boolean isAborted() {
+    return aborted;
+  }
+
+  /**
+   * Returns the next batch if one is available, without waiting.
+   */
+  @Nullable
+  synchronized LoadBatch poll() {
+    return batches.poll();
+  }
+
+  /**
+   * Returns the next batch, waiting for one to be listed, or {@code null} once the queue is closed and empty.
+   */
+  @Nullable
+  synchronized LoadBatch take() throws InterruptedException {
+    while (batches.isEmpty() && !closed) {
+      wait();
+    }
+    return batches.poll();
+  }
+}
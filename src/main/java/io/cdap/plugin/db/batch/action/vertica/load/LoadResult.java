@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+/**
+ * Row counts produced by a single {@link LoadWorker}.
+ */
+final class LoadResult {
+  private final long rowsInserted;
+  private final long rowsRejected;
+  private final int rangesLoaded;
+  private final long bytesLoaded;
+  private final long copyWaitMillis;
+  private final long readBlockedMillis;
+
+  LoadResult(long rowsInserted, long rowsRejected, int rangesLoaded, long bytesLoaded, long copyWaitMillis,
+             long readBlockedMillis) {
+    this.rowsInserted = rowsInserted;
+    this.rowsRejected = rowsRejected;
+    this.rangesLoaded = rangesLoaded;
+    this.bytesLoaded = bytesLoaded;
+    this.copyWaitMillis = copyWaitMillis;
+    this.readBlockedMillis = readBlockedMillis;
+  }
+
+  long getRowsInserted() {
+    return rowsInserted;
+  }
+
+  long getRowsRejected() {
+    return rowsRejected;
+  }
+
+  int getRangesLoaded() {
+    return rangesLoaded;
+  }
+
+  long getBytesLoaded() {
+    return bytesLoaded;
+  }
+
+  /**
+   * Returns how long the COPY stream waited for read-ahead buffers, in milliseconds.
+   */
+  long getCopyWaitMillis() {
+    return copyWaitMillis;
+  }
+
+  /**
+   * Returns how long the read-ahead reader waited for a free buffer, in milliseconds.
+   */
+  long getReadBlockedMillis() {
+    return readBlockedMillis;
+  }
+}
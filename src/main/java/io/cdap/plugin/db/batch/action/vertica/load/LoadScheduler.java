@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders load batches for the load slots by size, using longest-processing-time-first scheduling.
+ * Slots take the next batch from the ordered list whenever they become free, so the largest batches start first and
+ * the small ones fill in the gaps at the end, instead of one large file deciding the wall-clock time of the load.
+ */
+final class LoadScheduler {
+  static final Comparator<LoadBatch> LARGEST_FIRST =
+    Comparator.comparingLong(LoadBatch::getLength).reversed()
+      .thenComparing(batch -> batch.getRanges().get(0).getPath().toString())
+      .thenComparingLong(batch -> batch.getRanges().get(0).getStart());
+
+  private final int slots;
+
+  LoadScheduler(int slots) {
+    this.slots = slots;
+  }
+
+  /**
+   * Returns the batches in the order they should be handed to the load slots.
+   */
+  List<LoadBatch> order(Collection<LoadBatch> batches) {
+    List<LoadBatch> ordered = new ArrayList<>(batches);
+    ordered.sort(LARGEST_FIRST);
+    return ordered;
+  }
+
+  /**
+   * Predicts the number of bytes each slot loads, assuming load time is proportional to batch size.
+   * Each batch goes to the slot with the fewest bytes, which is the slot that becomes free first.
+   */
+  long[] predictSlotBytes(List<LoadBatch> ordered) {
+    long[] slotBytes = new long[slots];
+    for (LoadBatch batch : ordered) {
+      int leastLoaded = 0;
+      for (int i = 1; i < slots; i++) {
+        if (slotBytes[i] < slotBytes[leastLoaded]) {
+          leastLoaded = i;
+        }
+      }
+      slotBytes[leastLoaded] += batch.getLength();
+    }
+    return slotBytes;
+  }
+
+  /**
+   * Formats per-slot byte totals largest first, so that predicted and actual totals can be compared in the logs.
+   */
+  static String formatSlotBytes(long[] slotBytes) {
+    long[] sorted = slotBytes.clone();
+    Arrays.sort(sorted);
+    StringBuilder builder = new StringBuilder("[");
+    for (int i = sorted.length - 1; i >= 0; i--) {
+      builder.append(sorted[i]);
+      if (i > 0) {
+        builder.append(", ");
+      }
+    }
+    return builder.append(']').toString();
+  }
+}
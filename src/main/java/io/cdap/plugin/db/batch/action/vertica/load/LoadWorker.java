@@ -0,0 +1,426 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Loads batches of file ranges taken from a shared queue through its own {@link CopySink}, a connection and COPY
+ * stream to Vertica when loading.
+ * Several workers can drain the same queue concurrently, while batches are still being added to it. A batch that
+ * fails with a transient error is retried as decided by the {@link RetryPolicy}, rolling back only that batch, or
+ * loading again every batch since the last commit if the connection was lost.
+ */
+final class LoadWorker implements Callable<LoadResult> {
+  private static final Logger LOG = LoggerFactory.getLogger(LoadWorker.class);
+
+  private final CopySink sink;
+  private final String node;
+  private final String copyStatement;
+  private final FileSystem fs;
+  private final LoadQueue batches;
+  private final VerticaImportConfig config;
+  private final LoadManifest manifest;
+  private final LoadMetrics metrics;
+  private final RejectTracker rejectTracker;
+  private final CommitPolicy commitPolicy;
+  private final RetryPolicy retryPolicy;
+  private final Throttle throttle;
+  // Batches loaded since the last commit, which are loaded again if the connection is lost
+  private final List<LoadBatch> uncommitted = new ArrayList<>();
+  private ReadAheadReader readAhead;
+  private CopySink.Session stream;
+  private String streamStatement;
+  private String streamTable;
+  // Whether the current stream holds a permit of the throttle
+  private boolean streamPermit;
+  private long rowsInserted;
+  // Whether the current batch is loaded after a savepoint of its own
+  private boolean savepointSet;
+  // Whether the batches since the last commit must be loaded again before the next attempt
+  private boolean replaying;
+
+  /**
+   * Creates a worker loading through the given node, whose throughput is reported per node if known. The COPY
+   * streams of the worker are limited by the given throttle, if any, which a stream holds from its start to its end.
+   */
+  LoadWorker(CopySink sink, @Nullable String node, String copyStatement, FileSystem fs, LoadQueue batches,
+             VerticaImportConfig config, @Nullable LoadManifest manifest, LoadMetrics metrics,
+             RejectTracker rejectTracker, @Nullable Throttle throttle) {
+    this.sink = sink;
+    this.node = node;
+    this.copyStatement = copyStatement;
+    this.fs = fs;
+    this.batches = batches;
+    this.config = config;
+    this.manifest = manifest;
+    this.metrics = metrics;
+    this.rejectTracker = rejectTracker;
+    this.commitPolicy = CommitPolicy.of(config);
+    this.retryPolicy = RetryPolicy.of(config);
+    this.throttle = throttle;
+  }
+
+  /**
+   * Streams batches until the queue is closed and empty, committing as decided by the {@link CommitPolicy}. The data
+   * loaded since the last commit is left uncommitted on the connection so that the caller can commit all workers
+   * together.
+   */
+  @Override
+  public LoadResult call() throws Exception {
+    // Keep running count of the number of rejects
+    long totalRejects = 0;
+    int rangesLoaded = 0;
+    long bytesLoaded = 0;
+    long bytesSinceCommit = 0;
+    long rowsSinceCommit = 0;
+    long lastCommit = System.nanoTime();
+
+    if (config.getReadAheadBuffers() > 0) {
+      readAhead = new ReadAheadReader(fs, metrics, config.getReadAheadBuffers(), config.getReadAheadBufferSize(),
+                                      Thread.currentThread().getName() + "-reader");
+    }
+
+    LoadBatch batch = batches.take();
+    List<InputStream> inputStreams = open(batch, true);
+    try {
+      while (batch != null) {
+        if (Thread.currentThread().isInterrupted()) {
+          throw new InterruptedException(String.format("Load interrupted before %s", batch));
+        }
+        LOG.debug("Loading {} of {} bytes", batch, batch.getLength());
+
+        // With read-ahead, take the next batch now so that it is read while this one loads
+        LoadBatch next = readAhead == null ? null : batches.poll();
+        List<InputStream> nextStreams = open(next, true);
+        long streamStart = System.nanoTime();
+        Execution execution;
+        try {
+          execution = load(batch, inputStreams);
+        } catch (Exception e) {
+          close(nextStreams);
+          throw e;
+        }
+
+        // Show any rejects from this execution of the stream load
+        List<Long> rejects = execution.rejects;
+        long[] rowsPerRange = execution.rowsPerRange;
+        rejectTracker.record(batch, rejects, rowsPerRange);
+        metrics.batchLoaded(batch, System.nanoTime() - streamStart, rejects.size());
+        if (node != null) {
+          metrics.nodeLoaded(node, batch.getLength());
+        }
+        totalRejects += rejects.size();
+        rangesLoaded += batch.getRanges().size();
+        bytesLoaded += batch.getLength();
+        if (retryPolicy.isEnabled()) {
+          uncommitted.add(batch);
+        }
+        bytesSinceCommit += batch.getLength();
+        if (rowsPerRange != null) {
+          for (long rows : rowsPerRange) {
+            rowsSinceCommit += rows;
+          }
+        }
+        if (commitPolicy.shouldCommit(bytesSinceCommit, rowsSinceCommit, System.nanoTime() - lastCommit)) {
+          // An execution can return after the load was stopped, once the other workers were rolled back
+          if (Thread.currentThread().isInterrupted() || batches.isAborted()) {
+            throw new InterruptedException(String.format("Load stopped before committing %s", batch));
+          }
+          // Commit the loaded data
+          long commitStart = System.nanoTime();
+          sink.commit();
+          uncommitted.clear();
+          savepointSet = false;
+          lastCommit = System.nanoTime();
+          metrics.committed(lastCommit - commitStart);
+          bytesSinceCommit = 0;
+          rowsSinceCommit = 0;
+        }
+        if (next == null) {
+          batch = batches.take();
+          inputStreams = open(batch, true);
+        } else {
+          batch = next;
+          inputStreams = nextStreams;
+        }
+      }
+    } finally {
+      close(inputStreams);
+      if (readAhead != null) {
+        readAhead.close();
+      }
+      // A failed worker leaves its stream open, but must not keep other workers from starting theirs
+      releaseStream();
+    }
+
+    finishStream();
+    return new LoadResult(rowsInserted, totalRejects, rangesLoaded, bytesLoaded,
+                          readAhead == null ? 0 : readAhead.getCopyWaitMillis(),
+                          readAhead == null ? 0 : readAhead.getReadBlockedMillis());
+  }
+
+  /**
+   * Loads a batch from the given streams, retrying it with new streams as long as the {@link RetryPolicy} allows. A
+   * retry rolls back to the savepoint of the batch, or, if that fails because the connection was lost, rolls back
+   * or reconnects and loads again the batches since the last commit.
+   */
+  private Execution load(LoadBatch batch, List<InputStream> inputStreams) throws Exception {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        if (attempt > 1) {
+          recover();
+          // Read-ahead streams must be consumed in the order they were opened, so retries read the files directly
+          inputStreams = open(batch, false);
+        }
+        return execute(batch, inputStreams, false);
+      } catch (Exception e) {
+        if (Thread.currentThread().isInterrupted() || !retryPolicy.shouldRetry(e, attempt)) {
+          throw e;
+        }
+        long backoff = retryPolicy.jitteredBackoffMillis(attempt);
+        LOG.warn("Failed to load {}, retrying in {} ms ({} of {} retries)", batch, backoff, attempt,
+                 retryPolicy.getMaxRetries(), e);
+        metrics.retried(batch.getLength());
+        abortStream();
+        TimeUnit.MILLISECONDS.sleep(backoff);
+      }
+    }
+  }
+
+  /**
+   * Copies a batch from the given streams and returns the rejects of the execution. With retries, the batch is
+   * copied by a COPY stream of its own after a savepoint, since the savepoint cannot be set while a stream runs. The
+   * rows of a batch that is loaded again after its connection was lost are not counted again.
+   */
+  private Execution execute(LoadBatch batch, List<InputStream> inputStreams, boolean replay) throws Exception {
+    if (retryPolicy.isEnabled()) {
+      savepointSet = false;
+      sink.savepoint();
+      savepointSet = true;
+    }
+    CopySink.Session copyStream = streamFor(batch);
+    try {
+      for (InputStream inputStream : inputStreams) {
+        // Add stream to the COPY session
+        copyStream.addStream(inputStream);
+      }
+
+      // call execute() to load the newly added streams. All the
+      // ranges of a batch are loaded by one execute() call, which
+      // saves a round trip per file for directories of many small
+      // files. Rejects can then only be checked once per batch.
+      copyStream.execute();
+    } finally {
+      close(inputStreams);
+    }
+
+    // getRejects() returns a List containing the
+    // row numbers of rejected rows.
+    Execution execution = new Execution(copyStream.getRejects(), countRows(inputStreams));
+    if (manifest != null || retryPolicy.isEnabled()) {
+      // Finish the stream to know the rows of the batch and to free the connection for recording it
+      long rows = replay ? endStream() : finishStream();
+      // A deferred manifest still holds the ranges recorded before the connection was lost
+      if (manifest != null && !(replay && manifest.isDeferred())) {
+        manifest.record(sink.getConnection(), batch.getRanges(), rows);
+      }
+    }
+    return execution;
+  }
+
+  /**
+   * Rolls back the failed batch before it is loaded again. If the connection was lost, the data loaded since the last
+   * commit is lost with it, so those batches are loaded again on a new connection.
+   */
+  private void recover() throws Exception {
+    if (!replaying && savepointSet) {
+      try {
+        sink.rollbackToSavepoint();
+        return;
+      } catch (SQLException e) {
+        LOG.warn("Failed to roll back to the savepoint of the failed batch", e);
+      }
+    }
+    replaying = true;
+    savepointSet = false;
+    sink.reset();
+    long bytes = 0;
+    for (LoadBatch lost : uncommitted) {
+      bytes += lost.getLength();
+    }
+    if (!uncommitted.isEmpty()) {
+      LOG.warn("Loading again {} batches of {} bytes loaded since the last commit", uncommitted.size(), bytes);
+      metrics.wasted(bytes);
+    }
+    for (LoadBatch lost : uncommitted) {
+      execute(lost, open(lost, false), true);
+    }
+    replaying = false;
+  }
+
+  /**
+   * Returns the COPY stream for the statement and compression of the batch, finishing the current stream and starting
+   * a new one if they differ from those of the previous batch. The current stream is also finished if the throttle
+   * allows fewer streams than are open, and a new stream waits for the throttle to allow it.
+   */
+  private CopySink.Session streamFor(LoadBatch batch) throws SQLException, InterruptedException {
+    String statement = batch.getCompression().apply(
+      batch.getCopyStatement() == null ? copyStatement : batch.getCopyStatement());
+    if (stream != null && statement.equals(streamStatement) && (throttle == null || !throttle.isOverLimit())) {
+      return stream;
+    }
+    finishStream();
+    if (throttle != null) {
+      throttle.startStream();
+      streamPermit = true;
+    }
+    LOG.debug("Starting copy statement {}", statement);
+    // run Copy statement
+    try {
+      stream = sink.start(statement);
+    } catch (SQLException e) {
+      releaseStream();
+      throw e;
+    }
+    streamStatement = statement;
+    streamTable = batch.getTable();
+    return stream;
+  }
+
+  /**
+   * Finishes the current COPY stream, if any, and returns the number of rows it inserted.
+   */
+  private long finishStream() throws SQLException {
+    if (stream == null) {
+      return 0;
+    }
+    String table = streamTable;
+    long rows = endStream();
+    rowsInserted += rows;
+    metrics.rowsInserted(rows, table);
+    return rows;
+  }
+
+  /**
+   * Finishes the current COPY stream, if any, without counting its rows.
+   */
+  private long endStream() throws SQLException {
+    if (stream == null) {
+      return 0;
+    }
+    try {
+      long rows = stream.finish();
+      stream = null;
+      return rows;
+    } finally {
+      releaseStream();
+    }
+  }
+
+  /**
+   * Returns the permit of the current stream to the throttle, if it holds one.
+   */
+  private void releaseStream() {
+    if (streamPermit) {
+      streamPermit = false;
+      throttle.endStream();
+    }
+  }
+
+  /**
+   * Ends the COPY stream of a failed batch. A COPY stream cannot be cancelled, so it is finished, and what it inserted
+   * is rolled back before the batch is loaded again.
+   */
+  private void abortStream() {
+    try {
+      endStream();
+    } catch (SQLException e) {
+      LOG.debug("Failed to finish the COPY stream of the failed batch", e);
+    } finally {
+      stream = null;
+    }
+  }
+
+  /**
+   * Returns the streams to add to the COPY stream for the ranges of a batch, read ahead if allowed and configured.
+   */
+  private List<InputStream> open(@Nullable LoadBatch batch, boolean allowReadAhead) {
+    List<InputStream> inputStreams = new ArrayList<>();
+    if (batch == null) {
+      return inputStreams;
+    }
+    // Rows are counted to find the files of rejected rows, for the reject limits and the commit cadence, which is only
+    // possible for rows sent uncompressed
+    boolean countRows = batch.getCompression() == CopyCompression.UNCOMPRESSED &&
+      (batch.getRanges().size() > 1 || rejectTracker.isCountingRows() || commitPolicy.isCountingRows());
+    for (FileRange range : batch.getRanges()) {
+      // Files are only opened when the COPY stream starts reading them, unless they are read ahead
+      InputStream inputStream = metrics.sent(readAhead == null || !allowReadAhead ?
+        new LazyRangeInputStream(range, fs, metrics) : readAhead.open(range));
+      if (throttle != null) {
+        inputStream = throttle.throttled(inputStream);
+      }
+      inputStreams.add(countRows ? new LineCountingInputStream(inputStream) : inputStream);
+    }
+    return inputStreams;
+  }
+
+  /**
+   * Returns the number of rows sent from each stream, or {@code null} if they were not counted.
+   */
+  @Nullable
+  private static long[] countRows(List<InputStream> inputStreams) {
+    long[] rows = new long[inputStreams.size()];
+    for (int i = 0; i < rows.length; i++) {
+      if (!(inputStreams.get(i) instanceof LineCountingInputStream)) {
+        return null;
+      }
+      rows[i] = ((LineCountingInputStream) inputStreams.get(i)).getLines();
+    }
+    return rows;
+  }
+
+  private static void close(List<InputStream> inputStreams) throws IOException {
+    for (InputStream inputStream : inputStreams) {
+      inputStream.close();
+    }
+  }
+
+  /**
+   * The rejects of the execution of a batch, with the rows sent for each of its ranges if they were counted.
+   */
+  private static final class Execution {
+    private final List<Long> rejects;
+    private final long[] rowsPerRange;
+
+    private Execution(List<Long> rejects, @Nullable long[] rowsPerRange) {
+      this.rejects = rejects;
+      this.rowsPerRange = rowsPerRange;
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/**
+ * Opens the worker connections of a load so that the COPY sessions are spread over the initiator nodes of the
+ * cluster, instead of all being parsed and distributed by the node of the connection string. Nodes are either chosen
+ * by Vertica with native connection load balancing, or discovered from {@code v_catalog.nodes} and used in turn.
+ * Nodes that are not up, or that fail to accept a connection, are skipped for the rest of the load.
+ */
+final class NodeConnector {
+  private static final Logger LOG = LoggerFactory.getLogger(NodeConnector.class);
+  private static final Pattern HOST = Pattern.compile("^(jdbc:vertica://)([^/:?]+)(.*)$", Pattern.CASE_INSENSITIVE);
+
+  private final VerticaImportConfig config;
+  private final ConnectionPool pool;
+  private final List<Node> nodes = new ArrayList<>();
+  private int next;
+
+  NodeConnector(VerticaImportConfig config, ConnectionPool pool) {
+    this.config = config;
+    this.pool = pool;
+  }
+
+  /**
+   * Discovers the nodes that are up when connecting to each node, using the given connection to the node of the
+   * connection string.
+   */
+  void discover(Connection connection) throws SQLException {
+    if (!config.getLoadBalancing().equalsIgnoreCase(VerticaImportConfig.LOAD_BALANCING_NODES)) {
+      return;
+    }
+    try (Statement statement = connection.createStatement();
+         ResultSet rs = statement.executeQuery(
+           "SELECT node_name, node_address FROM v_catalog.nodes WHERE node_state = 'UP' ORDER BY node_name")) {
+      while (rs.next()) {
+        nodes.add(new Node(rs.getString(1), rs.getString(2)));
+      }
+    }
+    LOG.info("Spreading COPY sessions over {} nodes that are up: {}", nodes.size(), nodes);
+  }
+
+  /**
+   * Opens a connection for a worker, on the next healthy node when connecting to each node. Returns the connection
+   * with the name of its node, which is only known when load balancing is enabled. Without load balancing, an idle
+   * connection of the pool is reused if any.
+   */
+  NodeConnection open() throws SQLException {
+    String balancing = config.getLoadBalancing();
+    if (balancing.equalsIgnoreCase(VerticaImportConfig.LOAD_BALANCING_NATIVE)) {
+      Properties properties = new Properties();
+      // Has the node of the connection string redirect the session to the node chosen by its load balancing policy
+      properties.setProperty("ConnectionLoadBalance", "1");
+      Connection connection = pool.open(config.getConnectionString(), properties);
+      return new NodeConnection(connection, currentNode(connection));
+    }
+    SQLException failure = null;
+    for (int attempt = 0; attempt < nodes.size(); attempt++) {
+      Node node = nextHealthyNode();
+      if (node == null) {
+        break;
+      }
+      try {
+        Connection connection = pool.open(withHost(config.getConnectionString(), node.address), new Properties());
+        return new NodeConnection(connection, node.name);
+      } catch (SQLException e) {
+        LOG.warn("Failed to connect to node {} at {}, skipping it for the rest of the load", node.name, node.address,
+                 e);
+        node.healthy = false;
+        failure = e;
+      }
+    }
+    if (!nodes.isEmpty()) {
+      LOG.warn("No node accepted a connection, connecting to {}", config.getConnectionString(), failure);
+    }
+    return new NodeConnection(pool.acquire(), null);
+  }
+
+  List<Node> getNodes() {
+    return Collections.unmodifiableList(nodes);
+  }
+
+  /**
+   * Returns the connection string connecting to the given host, with the port, database and properties of the given
+   * connection string.
+   */
+  static String withHost(String connectionString, String host) {
+    Matcher matcher = HOST.matcher(connectionString);
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException(String.format("Cannot find the host of connection string %s.",
+                                                       connectionString));
+    }
+    return matcher.group(1) + (host.contains(":") ? "[" + host + "]" : host) + matcher.group(3);
+  }
+
+  @Nullable
+  private synchronized Node nextHealthyNode() {
+    for (int i = 0; i < nodes.size(); i++) {
+      Node node = nodes.get(next++ % nodes.size());
+      if (node.healthy) {
+        return node;
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private static String currentNode(Connection connection) {
+    try (Statement statement = connection.createStatement();
+         ResultSet rs = statement.executeQuery("SELECT node_name FROM v_monitor.current_session")) {
+      return rs.next() ? rs.getString(1) : null;
+    } catch (SQLException e) {
+      LOG.debug("Failed to read the node of the connection", e);
+      return null;
+    }
+  }
+
+  /**
+   * A node of the cluster that accepts client connections.
+   */
+  static final class Node {
+    private final String name;
+    private final String address;
+    private volatile boolean healthy = true;
+
+    Node(String name, String address) {
+      this.name = name;
+      this.address = address;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    boolean isHealthy() {
+      return healthy;
+    }
+
+    @Override
+    public String toString() {
+      return name + "@" + address;
+    }
+  }
+
+  /**
+   * A worker connection with the name of the node it is connected to, if known.
+   */
+  static final class NodeConnection {
+    private final Connection connection;
+    private final String node;
+
+    NodeConnection(Connection connection, @Nullable String node) {
+      this.connection = connection;
+      this.node = node;
+    }
+
+    Connection getConnection() {
+      return connection;
+    }
+
+    @Nullable
+    String getNode() {
+      return node;
+    }
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reads file ranges on a background thread into a bounded pool of reusable buffers, so that read stalls of the file
+ * system do not stall the COPY stream. Ranges are read one after the other in the order they were opened, which must
+ * be the order in which the COPY stream consumes them.
+ */
+final class ReadAheadReader implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(ReadAheadReader.class);
+  private static final Chunk END = new Chunk(null, 0, null);
+
+  private final FileSystem fs;
+  private final LoadMetrics metrics;
+  private final BlockingQueue<byte[]> freeBuffers;
+  private final BlockingQueue<ReadAheadInputStream> pending = new LinkedBlockingQueue<>();
+  private final AtomicLong copyWaitNanos = new AtomicLong();
+  private final AtomicLong readBlockedNanos = new AtomicLong();
+  private final Thread thread;
+
+  ReadAheadReader(FileSystem fs, LoadMetrics metrics, int bufferCount, int bufferSize, String name) {
+    this.fs = fs;
+    this.metrics = metrics;
+    this.freeBuffers = new ArrayBlockingQueue<>(bufferCount);
+    for (int i = 0; i < bufferCount; i++) {
+      freeBuffers.add(new byte[bufferSize]);
+    }
+    this.thread = new Thread(this::readPending, name);
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Schedules the range for reading and returns the stream that drains its buffers.
+   */
+  InputStream open(FileRange range) {
+    ReadAheadInputStream inputStream = new ReadAheadInputStream(range);
+    pending.add(inputStream);
+    return inputStream;
+  }
+
+  /**
+   * Returns how long the COPY side waited for data, in milliseconds.
+   */
+  long getCopyWaitMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(copyWaitNanos.get());
+  }
+
+  /**
+   * Returns how long the read side was blocked waiting for a free buffer, in milliseconds.
+   */
+  long getReadBlockedMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(readBlockedNanos.get());
+  }
+
+  @Override
+  public void close() {
+    thread.interrupt();
+  }
+
+  private void readPending() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        pending.take().fill();
+      }
+    } catch (InterruptedException e) {
+      // Closed
+    }
+  }
+
+  private byte[] takeFreeBuffer() throws InterruptedException {
+    long start = System.nanoTime();
+    byte[] buffer = freeBuffers.take();
+    readBlockedNanos.addAndGet(System.nanoTime() - start);
+    return buffer;
+  }
+
+  /**
+   * A buffer filled by the reader, the end of a range, or the failure to read it.
+   */
+  private static final class Chunk {
+    private final byte[] buffer;
+    private final int length;
+    private final IOException failure;
+
+    private Chunk(byte[] buffer, int length, IOException failure) {
+      this.buffer = buffer;
+      this.length = length;
+      this.failure = failure;
+    }
+  }
+
+  /**
+   * Stream handed to the COPY stream for a single range.
+   */
+  private final class ReadAheadInputStream extends InputStream {
+    private final FileRange range;
+    private final BlockingQueue<Chunk> chunks = new LinkedBlockingQueue<>();
+    private final byte[] single = new byte[1];
+    private Chunk current;
+    private int offset;
+    private volatile boolean closed;
+
+    private ReadAheadInputStream(FileRange range) {
+      this.range = range;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int n = read(single, 0, 1);
+      return n < 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      while (current == null || offset == current.length) {
+        if (current == END) {
+          return -1;
+        }
+        if (current != null && current.failure != null) {
+          throw new IOException(String.format("Failed to read %s", range), current.failure);
+        }
+        release(current);
+        current = nextChunk();
+        offset = 0;
+      }
+      int n = Math.min(len, current.length - offset);
+      System.arraycopy(current.buffer, offset, b, off, n);
+      offset += n;
+      return n;
+    }
+
+    @Override
+    public synchronized void close() {
+      closed = true;
+      release(current);
+      current = END;
+      Chunk chunk;
+      while ((chunk = chunks.poll()) != null) {
+        release(chunk);
+      }
+    }
+
+    private Chunk nextChunk() throws IOException {
+      long start = System.nanoTime();
+      try {
+        return chunks.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException(String.format("Interrupted while reading %s", range));
+      } finally {
+        copyWaitNanos.addAndGet(System.nanoTime() - start);
+      }
+    }
+
+    private void release(Chunk chunk) {
+      if (chunk != null && chunk.buffer != null) {
+        freeBuffers.add(chunk.buffer);
+      }
+    }
+
+    /**
+     * Reads the whole range into buffers. Runs on the reader thread.
+     */
+    private void fill() throws InterruptedException {
+      if (closed) {
+        return;
+      }
+      byte[] buffer = null;
+      try (InputStream in = metrics.open(range, fs)) {
+        while (true) {
+          buffer = takeFreeBuffer();
+          int length = 0;
+          int n = 0;
+          while (length < buffer.length && (n = in.read(buffer, length, buffer.length - length)) >= 0) {
+            length += n;
+          }
+          if (length > 0) {
+            Chunk chunk = new Chunk(buffer, length, null);
+            buffer = null;
+            if (!offer(chunk)) {
+              return;
+            }
+          }
+          if (n < 0) {
+            offer(END);
+            return;
+          }
+        }
+      } catch (IOException e) {
+        LOG.debug("Failed to read ahead {}", range, e);
+        offer(new Chunk(null, 0, e));
+      } finally {
+        if (buffer != null) {
+          freeBuffers.add(buffer);
+        }
+      }
+    }
+
+    /**
+     * Hands a chunk to the consumer, or releases it if the stream was already closed.
+     */
+    private synchronized boolean offer(Chunk chunk) {
+      if (closed) {
+        release(chunk);
+        return false;
+      }
+      chunks.add(chunk);
+      return true;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.util.Arrays;
+
+/**
+ * The numbers of the rejected rows of a file range, stored as runs of consecutive row numbers in primitive arrays.
+ * A file whose rows are all rejected takes a single run, however many rows it has.
+ */
+final class RejectSet {
+  private long[] starts = new long[4];
+  private long[] ends = new long[4];
+  private int runs;
+  private long size;
+
+  /**
+   * Adds a row number, which must be larger than the row numbers already added.
+   */
+  void add(long row) {
+    if (runs > 0 && row <= ends[runs - 1]) {
+      throw new IllegalArgumentException(
+        String.format("Row %d added after row %d. Rows must be added in increasing order.", row, ends[runs - 1]));
+    }
+    if (runs > 0 && row == ends[runs - 1] + 1) {
+      ends[runs - 1] = row;
+    } else {
+      if (runs == starts.length) {
+        starts = Arrays.copyOf(starts, runs * 2);
+        ends = Arrays.copyOf(ends, runs * 2);
+      }
+      starts[runs] = row;
+      ends[runs] = row;
+      runs++;
+    }
+    size++;
+  }
+
+  boolean contains(long row) {
+    int index = Arrays.binarySearch(starts, 0, runs, row);
+    if (index >= 0) {
+      return true;
+    }
+    // The run starting before the row, if any
+    int run = -index - 2;
+    return run >= 0 && row <= ends[run];
+  }
+
+  long size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the largest row number, or {@code 0} if the set is empty.
+   */
+  long last() {
+    return runs == 0 ? 0 : ends[runs - 1];
+  }
+
+  int getRuns() {
+    return runs;
+  }
+}
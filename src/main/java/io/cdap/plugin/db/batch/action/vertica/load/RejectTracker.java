@@ -0,0 +1,251 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+/**
+ * Attributes the rows rejected by the executions of the COPY streams to the file ranges they came from, and
+ * optionally writes the rejected lines to a rejects directory. Only the ranges with rejected rows are read again, up
+ * to their last rejected row, so rejected rows are never held in memory. Also aborts the load once the rejected rows
+ * exceed the configured limits. Shared by all the workers of a load.
+ */
+final class RejectTracker {
+  private static final Logger LOG = LoggerFactory.getLogger(RejectTracker.class);
+  // Rows to load before the percentage of rejected rows is significant
+  static final long MIN_ROWS_FOR_PERCENT = 1000;
+
+  private final FileSystem fs;
+  private final Path rejectsDir;
+  private final Long maxRejects;
+  private final Double maxRejectPercent;
+  private final Map<String, AtomicLong> rejectsBySource = new ConcurrentHashMap<>();
+  private final AtomicLong totalRejects = new AtomicLong();
+  // Rows and rejected rows of the executions whose rows were counted
+  private final AtomicLong countedRows = new AtomicLong();
+  private final AtomicLong countedRejects = new AtomicLong();
+
+  RejectTracker(FileSystem fs, @Nullable Path rejectsDir) {
+    this(fs, rejectsDir, null, null);
+  }
+
+  /**
+   * @param fs the file system of the loaded files
+   * @param rejectsDir the directory to write the rejected lines to, or {@code null} to only count them
+   * @param maxRejects the number of rejected rows above which the load is aborted, or {@code null} for no limit
+   * @param maxRejectPercent the percentage of rejected rows above which the load is aborted, or {@code null} for no
+   *                         limit
+   */
+  RejectTracker(FileSystem fs, @Nullable Path rejectsDir, @Nullable Long maxRejects,
+                @Nullable Double maxRejectPercent) {
+    this.fs = fs;
+    this.rejectsDir = rejectsDir;
+    this.maxRejects = maxRejects;
+    this.maxRejectPercent = maxRejectPercent;
+  }
+
+  /**
+   * Returns whether the rows sent for each range should be counted, which is needed for the percentage limit.
+   */
+  boolean isCountingRows() {
+    return maxRejectPercent != null;
+  }
+
+  /**
+   * Records the rows rejected by one execution of the COPY stream for a batch. Vertica numbers the rejected rows from
+   * 1 over the rows of all the streams of the execution, so the number of rows sent for each range is needed to find
+   * the range of a row, unless the batch has a single range.
+   *
+   * @param rejects the rejected row numbers returned by the COPY stream
+   * @param rowsPerRange the number of rows sent for each range of the batch, or {@code null} if they were not counted
+   */
+  void record(LoadBatch batch, List<Long> rejects, @Nullable long[] rowsPerRange) throws IOException {
+    attribute(batch, rejects, rowsPerRange);
+    long sentRows = 0;
+    if (rowsPerRange != null) {
+      for (long rangeRows : rowsPerRange) {
+        sentRows += rangeRows;
+      }
+    }
+    checkLimits(rejects.size(), rowsPerRange == null ? -1 : sentRows);
+  }
+
+  /**
+   * Records the result of a server side COPY statement, whose rows are not sent through the client.
+   */
+  void record(String statement, long rejected, long rows) {
+    if (rejected > 0) {
+      count(statement, rejected);
+    }
+    checkLimits(rejected, rows);
+  }
+
+  /**
+   * Counts the rows of an execution and aborts the load if a limit is exceeded.
+   *
+   * @param rows the number of rows of the execution, or {@code -1} if it is unknown
+   */
+  private void checkLimits(long rejected, long rows) {
+    long total = totalRejects.addAndGet(rejected);
+    if (maxRejects != null && total > maxRejects) {
+      throw new IllegalStateException(String.format(
+        "Load aborted after %d rejected rows, more than the maximum of %d. Files with the most rejected rows: %s",
+        total, maxRejects, summary(10)));
+    }
+    if (maxRejectPercent == null || rows < 0) {
+      return;
+    }
+    long counted = countedRows.addAndGet(rows);
+    long rejectedRows = countedRejects.addAndGet(rejected);
+    double percent = counted == 0 ? 0 : rejectedRows * 100.0 / counted;
+    if (counted >= MIN_ROWS_FOR_PERCENT && percent > maxRejectPercent) {
+      throw new IllegalStateException(String.format(
+        "Load aborted after %d of %d rows were rejected (%.2f%%), more than the maximum of %s%%. " +
+          "Files with the most rejected rows: %s", rejectedRows, counted, percent, maxRejectPercent, summary(10)));
+    }
+  }
+
+  private void attribute(LoadBatch batch, List<Long> rejects, @Nullable long[] rowsPerRange) throws IOException {
+    if (rejects.isEmpty()) {
+      return;
+    }
+    long[] rows = new long[rejects.size()];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = rejects.get(i);
+    }
+    Arrays.sort(rows);
+
+    List<FileRange> ranges = batch.getRanges();
+    if (ranges.size() > 1 && rowsPerRange == null) {
+      // Compressed streams are sent as they are, so their rows cannot be counted
+      LOG.warn("{} rows rejected while loading {}, which cannot be attributed to its files", rows.length, batch);
+      count(batch.toString(), rows.length);
+      return;
+    }
+
+    int next = 0;
+    long offset = 0;
+    for (int i = 0; i < ranges.size() && next < rows.length; i++) {
+      long rangeRows = ranges.size() == 1 ? Long.MAX_VALUE : rowsPerRange[i];
+      RejectSet rejected = new RejectSet();
+      while (next < rows.length && rows[next] - offset <= rangeRows) {
+        if (rows[next] - offset != rejected.last()) {
+          rejected.add(rows[next] - offset);
+        }
+        next++;
+      }
+      offset += rangeRows;
+      if (!rejected.isEmpty()) {
+        FileRange range = ranges.get(i);
+        LOG.debug("{} rows rejected while loading {}", rejected.size(), range);
+        count(range.getPath().toString(), rejected.size());
+        if (rejectsDir != null) {
+          writeRejectedLines(range, rejected);
+        }
+      }
+    }
+    if (next < rows.length) {
+      LOG.warn("{} rows rejected while loading {} are beyond the rows sent", rows.length - next, batch);
+      count(batch.toString(), rows.length - next);
+    }
+  }
+
+  /**
+   * Returns the number of rejected rows per file, or per batch for rows that could not be attributed to a file.
+   */
+  Map<String, Long> getRejectsBySource() {
+    Map<String, Long> counts = new HashMap<>();
+    for (Map.Entry<String, AtomicLong> entry : rejectsBySource.entrySet()) {
+      counts.put(entry.getKey(), entry.getValue().get());
+    }
+    return counts;
+  }
+
+  /**
+   * Returns the files with the most rejected rows and their number of rejected rows, such as
+   * {@code "/data/a.csv: 10, /data/b.csv: 2"}.
+   */
+  String summary(int maxSources) {
+    List<Map.Entry<String, Long>> entries = new ArrayList<>(getRejectsBySource().entrySet());
+    entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+    StringBuilder builder = new StringBuilder();
+    for (Map.Entry<String, Long> entry : entries.subList(0, Math.min(maxSources, entries.size()))) {
+      if (builder.length() > 0) {
+        builder.append(", ");
+      }
+      builder.append(entry.getKey()).append(": ").append(entry.getValue());
+    }
+    if (entries.size() > maxSources) {
+      builder.append(String.format(" and %d more", entries.size() - maxSources));
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Returns the path of the file receiving the rejected lines of a range, which mirrors the path of its file under
+   * the rejects directory.
+   */
+  Path getRejectsPath(FileRange range) {
+    String path = Path.getPathWithoutSchemeAndAuthority(range.getPath()).toString();
+    String suffix = range.isWholeFile() ? ".rejected" : String.format(".%d.rejected", range.getStart());
+    return new Path(rejectsDir, path.substring(path.startsWith("/") ? 1 : 0) + suffix);
+  }
+
+  private void count(String source, long rows) {
+    rejectsBySource.computeIfAbsent(source, s -> new AtomicLong()).addAndGet(rows);
+  }
+
+  private void writeRejectedLines(FileRange range, RejectSet rejected) throws IOException {
+    Path path = getRejectsPath(range);
+    FileSystem rejectsFs = path.getFileSystem(fs.getConf());
+    long row = 1;
+    boolean lineStart = true;
+    try (InputStream in = new BufferedInputStream(range.openRecords(fs));
+         OutputStream out = rejectsFs.create(path, true)) {
+      int b;
+      while (row <= rejected.last() && (b = in.read()) >= 0) {
+        if (rejected.contains(row)) {
+          out.write(b);
+        }
+        lineStart = b == '\n';
+        if (lineStart) {
+          row++;
+        }
+      }
+      if (!lineStart && rejected.contains(row)) {
+        // The last record of the range has no trailing newline
+        out.write('\n');
+      }
+    }
+    LOG.info("Wrote {} rejected rows of {} to {}", rejected.size(), range, path);
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Decides whether a batch that failed to load is loaded again, and how long to wait before. Only transient failures
+ * are retried: network failures and timeouts, lost connections, and the errors Vertica reports for conditions that
+ * clear up, such as a node shutting down or a lack of resources. Other failures to read the files, such as missing
+ * permissions or corrupt compressed files, fail the same way on every attempt. The wait doubles with each retry up to
+ * a maximum, and is jittered so that the workers that failed together, such as after a node restart, do not retry
+ * together.
+ */
+final class RetryPolicy {
+  // SQLSTATE classes of connection exceptions, transaction rollbacks, insufficient resources, operator intervention
+  // and system errors
+  private static final List<String> TRANSIENT_SQL_STATE_CLASSES = Arrays.asList("08", "40", "53", "57", "58");
+
+  private final int maxRetries;
+  private final long backoffMillis;
+  private final long maxBackoffMillis;
+
+  RetryPolicy(int maxRetries, long backoffMillis, long maxBackoffMillis) {
+    this.maxRetries = maxRetries;
+    this.backoffMillis = backoffMillis;
+    this.maxBackoffMillis = maxBackoffMillis;
+  }
+
+  static RetryPolicy of(VerticaImportConfig config) {
+    return new RetryPolicy(config.getMaxRetries(), config.getRetryBackoffMillis(),
+                           config.getRetryMaxBackoffMillis());
+  }
+
+  /**
+   * Returns whether failed batches are retried, which requires each batch to be loaded in a savepoint of its own.
+   */
+  boolean isEnabled() {
+    return maxRetries > 0;
+  }
+
+  int getMaxRetries() {
+    return maxRetries;
+  }
+
+  /**
+   * Returns whether to retry a batch after the given failure of its attempt, numbered from 1.
+   */
+  boolean shouldRetry(Exception failure, int attempt) {
+    return attempt <= maxRetries && isTransient(failure);
+  }
+
+  /**
+   * Returns the longest wait before the given retry, numbered from 1.
+   */
+  long backoffMillis(int retry) {
+    long backoff = backoffMillis;
+    for (int i = 1; i < retry && backoff < maxBackoffMillis; i++) {
+      backoff *= 2;
+    }
+    return Math.min(backoff, maxBackoffMillis);
+  }
+
+  /**
+   * Returns the wait before the given retry, numbered from 1, which is between half and all of its backoff.
+   */
+  long jitteredBackoffMillis(int retry) {
+    long backoff = backoffMillis(retry);
+    return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff - backoff / 2 + 1);
+  }
+
+  /**
+   * Returns whether a failure, or one of its causes, is likely to clear up by itself. Interruptions are not.
+   */
+  static boolean isTransient(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      // A socket timeout is also an interrupted I/O
+      if (cause instanceof SocketTimeoutException || cause instanceof SocketException
+        || cause instanceof UnknownHostException || cause instanceof TimeoutException) {
+        return true;
+      }
+      if (cause instanceof InterruptedException || cause instanceof InterruptedIOException) {
+        return false;
+      }
+      if (cause instanceof SQLTransientException || cause instanceof SQLRecoverableException
+        || cause instanceof SQLNonTransientConnectionException) {
+        return true;
+      }
+      if (cause instanceof SQLException) {
+        String state = ((SQLException) cause).getSQLState();
+        if (state != null && state.length() >= 2 && TRANSIENT_SQL_STATE_CLASSES.contains(state.substring(0, 2))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Checks the first lines of sampled files against the columns of the table they are copied into, the way a
+ * generated COPY statement parses them, so that a wrong delimiter, a column count mismatch, a value that does not fit
+ * its column or an encoding other than UTF-8 is reported before streaming the files. Only the first problem of each
+ * file is reported. Columns whose values have many valid formats, such as dates, are not checked.
+ */
+final class SampleValidator {
+  // Delimiters suggested when the configured one splits a line into the wrong number of fields
+  private static final List<String> COMMON_DELIMITERS = Arrays.asList(",", "|", "\t", ";", "\u0001");
+  private static final int MAX_VALUE_LENGTH = 40;
+  private static final Set<String> BOOLEANS = new HashSet<>(Arrays.asList(
+    "t", "true", "y", "yes", "on", "1", "f", "false", "n", "no", "off", "0"));
+
+  private final String delimiter;
+  private final String enclosedBy;
+  private final String nullAs;
+  private final boolean escaped;
+  private final int maxProblems;
+  private final List<String> problems = new ArrayList<>();
+
+  SampleValidator(String delimiter, int maxProblems) {
+    this(CopyStatement.builder().setDelimiter(delimiter).build(), maxProblems);
+  }
+
+  /**
+   * Creates a validator parsing lines with the delimiter, enclosing character, NULL string and escaping of the given
+   * statement.
+   */
+  SampleValidator(CopyStatement format, int maxProblems) {
+    this.delimiter = format.getDelimiter();
+    this.enclosedBy = format.getEnclosedBy();
+    this.nullAs = format.getNullAs();
+    this.escaped = !format.isNoEscape();
+    this.maxProblems = maxProblems;
+  }
+
+  /**
+   * Validates the first lines of a file against the columns read from it.
+   *
+   * @param file the name of the file in the problems reported
+   */
+  void validate(String file, InputStream in, int maxLines, List<TableMetadata.Column> columns) throws IOException {
+    if (problems.size() >= maxProblems) {
+      return;
+    }
+    CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+      .onMalformedInput(CodingErrorAction.REPORT)
+      .onUnmappableCharacter(CodingErrorAction.REPORT);
+    BufferedInputStream input = new BufferedInputStream(in);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    for (int line = 1; line <= maxLines; line++) {
+      bytes.reset();
+      int b;
+      while ((b = input.read()) >= 0 && b != '\n') {
+        bytes.write(b);
+      }
+      if (b < 0 && bytes.size() == 0) {
+        return;
+      }
+      String text;
+      try {
+        text = decoder.decode(ByteBuffer.wrap(bytes.toByteArray())).toString();
+      } catch (CharacterCodingException e) {
+        problems.add(String.format("File %s line %d is not valid UTF-8, the encoding Vertica loads.", file, line));
+        return;
+      }
+      String problem = validate(text, columns);
+      if (problem != null) {
+        problems.add(String.format("File %s line %d %s", file, line, problem));
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns the problems found so far.
+   */
+  List<String> getProblems() {
+    return Collections.unmodifiableList(problems);
+  }
+
+  /**
+   * Returns the problem of a line, or {@code null} if it fits the columns.
+   */
+  private String validate(String line, List<TableMetadata.Column> columns) {
+    List<String> fields = split(line, delimiter, enclosedBy, escaped);
+    if (fields.size() != columns.size()) {
+      StringBuilder problem = new StringBuilder(String.format(
+        "has %d fields separated by '%s', but the table has %d columns.", fields.size(), printable(delimiter),
+        columns.size()));
+      for (String candidate : COMMON_DELIMITERS) {
+        if (!candidate.equals(delimiter) && split(line, candidate, enclosedBy, escaped).size() == columns.size()) {
+          problem.append(String.format(" The file seems to be delimited by '%s'.", printable(candidate)));
+          break;
+        }
+      }
+      return problem.toString();
+    }
+    for (int i = 0; i < fields.size(); i++) {
+      TableMetadata.Column column = columns.get(i);
+      String value = fields.get(i);
+      if (value.equals(nullAs) && !column.isNullable()) {
+        return String.format("has %s field %d, which is loaded as NULL into NOT NULL column %s.",
+                             value.isEmpty() ? "an empty" : "a '" + printable(value) + "'", i + 1, column.getName());
+      }
+      if (value.equals(nullAs) || value.isEmpty()) {
+        continue;
+      }
+      if (!fits(value, column.getType())) {
+        String shown = value.length() > MAX_VALUE_LENGTH ? value.substring(0, MAX_VALUE_LENGTH) + "..." : value;
+        return String.format("has value '%s' in field %d, which is not a valid %s for column %s.%s",
+                             printable(shown), i + 1, column.getTypeName(), column.getName(),
+                             value.endsWith("\r") ? " The file seems to have Windows line endings." : "");
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Splits a line on the delimiter, unless it is escaped by a backslash like COPY does by default.
+   */
+  static List<String> split(String line, String delimiter) {
+    return split(line, delimiter, null, true);
+  }
+
+  /**
+   * Splits a line on the delimiter, unless it is escaped by a backslash when escaping is enabled, or inside a field
+   * enclosed by the given character. An enclosing character is part of an enclosed field when it is doubled.
+   */
+  static List<String> split(String line, String delimiter, @Nullable String enclosedBy, boolean escaped) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean enclosed = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (escaped && c == '\\' && i + 1 < line.length()) {
+        field.append(line.charAt(++i));
+      } else if (enclosedBy != null && c == enclosedBy.charAt(0) && (enclosed || field.length() == 0)) {
+        if (enclosed && i + 1 < line.length() && line.charAt(i + 1) == c) {
+          field.append(line.charAt(++i));
+        } else {
+          enclosed = !enclosed;
+        }
+      } else if (!enclosed && line.startsWith(delimiter, i)) {
+        fields.add(field.toString());
+        field.setLength(0);
+        i += delimiter.length() - 1;
+      } else {
+        field.append(c);
+      }
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private static boolean fits(String value, int type) {
+    // Spaces around numbers are accepted, but not other whitespace such as the carriage return of a Windows line end
+    String trimmed = value.replaceAll("^ +| +$", "");
+    try {
+      switch (type) {
+        case Types.TINYINT:
+        case Types.SMALLINT:
+        case Types.INTEGER:
+        case Types.BIGINT:
+          Long.parseLong(trimmed);
+          return true;
+        case Types.NUMERIC:
+        case Types.DECIMAL:
+          new BigDecimal(trimmed);
+          return true;
+        case Types.REAL:
+        case Types.FLOAT:
+        case Types.DOUBLE:
+          Double.parseDouble(trimmed);
+          return true;
+        case Types.BOOLEAN:
+        case Types.BIT:
+          return BOOLEANS.contains(trimmed.toLowerCase(Locale.ROOT));
+        default:
+          return true;
+      }
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private static String printable(String value) {
+    return value.replace("\t", "\\t").replace("\r", "\\r").replace("\u0001", "\\001");
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Loads files by having the Vertica nodes read them directly from the file system with {@code COPY ... FROM 'url'},
+ * instead of streaming them through the client. The action only orchestrates the statements and collects the counts.
+ */
+final class ServerSideLoader {
+  private static final Logger LOG = LoggerFactory.getLogger(ServerSideLoader.class);
+  // Keeps statements for very large directories at a reasonable size
+  static final int MAX_FILES_PER_STATEMENT = 1000;
+
+  private final VerticaImportConfig config;
+  private final CompressionCodecFactory codecs;
+
+  ServerSideLoader(VerticaImportConfig config, CompressionCodecFactory codecs) {
+    this.config = config;
+    this.codecs = codecs;
+  }
+
+  /**
+   * Returns the COPY statements that load the given files. Compressed files are read with the matching compression
+   * option. With the Advanced level, the configured copy statement is run as is and must name its own sources. With
+   * the automatic load method, the statements load with DIRECT if the files reach the direct threshold together.
+   */
+  List<String> buildStatements(List<FileStatus> files) {
+    if (!config.getLevel().equalsIgnoreCase("basic")) {
+      return Collections.singletonList(config.getCopyStatement());
+    }
+    CopyStatement.Builder template = CopyStatement.builder(config).setTable(config.getTableName());
+    // Smaller loads are left to AUTO, the default of COPY
+    if (config.isAutomaticLoadMethod() && new LoadMethodSelector(config.getDirectThresholdBytes())
+      .select(statementBytes(files)) == CopyStatement.LoadMethod.DIRECT) {
+      template.setLoadMethod(CopyStatement.LoadMethod.DIRECT);
+    }
+    List<String> statements = new ArrayList<>();
+    for (int start = 0; start < files.size(); start += MAX_FILES_PER_STATEMENT) {
+      StringBuilder sources = new StringBuilder();
+      for (FileStatus file : files.subList(start, Math.min(files.size(), start + MAX_FILES_PER_STATEMENT))) {
+        if (sources.length() > 0) {
+          sources.append(", ");
+        }
+        sources.append(quote(file.getPath().toString())).append(" ON ANY NODE");
+        CompressionCodec codec = codecs.getCodec(file.getPath());
+        if (codec != null) {
+          String keyword = CopyCompression.of(codec).getKeyword();
+          if (keyword == null) {
+            throw new IllegalArgumentException(String.format(
+              "File %s is compressed with %s, which Vertica cannot read. Please use the '%s' load mode instead.",
+              file.getPath(), codec.getClass().getSimpleName(), VerticaImportConfig.LOAD_MODE_STREAM));
+          }
+          sources.append(' ').append(keyword);
+        }
+      }
+      // COPY tableName FROM 'url' ON ANY NODE, ... DELIMITER 'delimiter' ...
+      statements.add(template.setSource(sources.toString()).build().toString());
+    }
+    return statements;
+  }
+
+  /**
+   * Runs the COPY statements for the given files on the connection. The data is committed after a statement as
+   * decided by the {@link CommitPolicy}, and the data loaded since the last commit is left uncommitted. The loaded
+   * files are recorded in the manifest, if any, in the same transaction. The statement of the Advanced level names
+   * its own sources, so only its rows are reported, and not the given files.
+   */
+  LoadResult load(Connection connection, List<FileStatus> files, @Nullable LoadManifest manifest,
+                  LoadMetrics metrics, RejectTracker rejectTracker) throws SQLException {
+    boolean readsFiles = config.getLevel().equalsIgnoreCase("basic");
+    long rowsInserted = 0;
+    long rowsRejected = 0;
+    List<String> copyStatements = buildStatements(files);
+    CommitPolicy commitPolicy = CommitPolicy.of(config);
+    long bytesSinceCommit = 0;
+    long rowsSinceCommit = 0;
+    long lastCommit = System.nanoTime();
+    try (Statement statement = connection.createStatement()) {
+      for (int i = 0; i < copyStatements.size(); i++) {
+        String copyStatement = copyStatements.get(i);
+        LOG.debug("Running server side copy statement {}", copyStatement);
+        statement.execute(copyStatement);
+        long accepted;
+        long rejected;
+        try (ResultSet rs = statement.executeQuery("SELECT GET_NUM_ACCEPTED_ROWS(), GET_NUM_REJECTED_ROWS()")) {
+          rs.next();
+          accepted = rs.getLong(1);
+          rejected = rs.getLong(2);
+        }
+        rowsInserted += accepted;
+        rowsRejected += rejected;
+        metrics.rowsInserted(accepted);
+        metrics.rowsRejected(rejected);
+        rejectTracker.record(copyStatement, rejected, accepted + rejected);
+        int start = i * MAX_FILES_PER_STATEMENT;
+        List<FileStatus> loaded = readsFiles ?
+          files.subList(start, Math.min(files.size(), start + MAX_FILES_PER_STATEMENT)) : Collections.emptyList();
+        if (manifest != null && !loaded.isEmpty()) {
+          List<FileRange> ranges = new ArrayList<>();
+          for (FileStatus file : loaded) {
+            ranges.add(new FileRange(file, 0, file.getLen()));
+          }
+          manifest.record(connection, ranges, accepted);
+        }
+        bytesSinceCommit += statementBytes(loaded);
+        rowsSinceCommit += accepted + rejected;
+        if (commitPolicy.shouldCommit(bytesSinceCommit, rowsSinceCommit, System.nanoTime() - lastCommit)) {
+          long commitStart = System.nanoTime();
+          connection.commit();
+          lastCommit = System.nanoTime();
+          metrics.committed(lastCommit - commitStart);
+          bytesSinceCommit = 0;
+          rowsSinceCommit = 0;
+        }
+        if (!loaded.isEmpty()) {
+          metrics.filesCompleted(loaded.size());
+        }
+      }
+    }
+    return new LoadResult(rowsInserted, rowsRejected, readsFiles ? files.size() : 0,
+                          readsFiles ? statementBytes(files) : 0, 0, 0);
+  }
+
+  private static long statementBytes(List<FileStatus> files) {
+    long bytes = 0;
+    for (FileStatus file : files) {
+      bytes += file.getLen();
+    }
+    return bytes;
+  }
+
+  private static String quote(String value) {
+    return "'" + value.replace("'", "''") + "'";
+  }
+}
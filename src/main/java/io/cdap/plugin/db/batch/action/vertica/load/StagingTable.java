@@ -0,0 +1,309 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * A table cloned from the target table that the workers load into, so that readers of the target table never see a
+ * partial load. Once every worker succeeded, the staged rows are published to the target table in a single
+ * transaction, either by copying them, by swapping the partitions of the two tables or by merging them on key columns.
+ */
+final class StagingTable {
+  private static final Logger LOG = LoggerFactory.getLogger(StagingTable.class);
+
+  /**
+   * How the staged rows are published to the target table.
+   */
+  enum Publish {
+    INSERT,
+    SWAP_PARTITIONS,
+    MERGE
+  }
+
+  private final String target;
+  private final String name;
+  private final Publish publish;
+  private final List<String> mergeKeys;
+  private final boolean swapEachPartition;
+
+  StagingTable(String target, String name, Publish publish, List<String> mergeKeys) {
+    this(target, name, publish, mergeKeys, false);
+  }
+
+  /**
+   * Creates a staging table that swaps only the partitions of the staged rows, instead of every partition in their
+   * range, when {@code swapEachPartition} is set.
+   */
+  StagingTable(String target, String name, Publish publish, List<String> mergeKeys, boolean swapEachPartition) {
+    this.target = target;
+    this.name = name;
+    this.publish = publish;
+    this.mergeKeys = mergeKeys;
+    this.swapEachPartition = swapEachPartition;
+  }
+
+  /**
+   * Returns the staging table of a run, named after the given run id unless the config names the staging table, so
+   * that concurrent runs loading the same table do not share their staging table.
+   */
+  static StagingTable of(VerticaImportConfig config, String runId) {
+    Publish publish = config.isMerge() ? Publish.MERGE :
+      config.isSwapPartitions() ? Publish.SWAP_PARTITIONS : Publish.INSERT;
+    String name = config.getStagingTable() == null ? config.getTableName() + "_staging_" + runId :
+      config.getStagingTable();
+    return new StagingTable(config.getTableName(), name, publish, config.getMergeKeys(), config.isPartitioned());
+  }
+
+  String getName() {
+    return name;
+  }
+
+  /**
+   * Creates the staging table with the columns and projections of the target table, replacing the staging table of
+   * a previous run that did not complete.
+   */
+  void create(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(dropStatement());
+      statement.execute(String.format("CREATE TABLE %s LIKE %s INCLUDING PROJECTIONS", name, target));
+    }
+    connection.commit();
+  }
+
+  /**
+   * Publishes the staged rows to the target table and commits, together with the ranges recorded by the deferred
+   * manifest, if any. The columns of the target table are read from the given metadata.
+   */
+  PublishResult publish(Connection connection, @Nullable LoadManifest manifest,
+                        TableMetadata metadata) throws SQLException {
+    if (manifest != null) {
+      manifest.writeDeferred(connection);
+    }
+    PublishResult result;
+    try (Statement statement = connection.createStatement()) {
+      switch (publish) {
+        case SWAP_PARTITIONS:
+          swapPartitions(connection, statement);
+          result = new PublishResult(-1, -1);
+          break;
+        case MERGE:
+          result = merge(statement, metadata.getColumnNames(connection, target));
+          break;
+        default:
+          int rows = statement.executeUpdate(String.format("INSERT /*+DIRECT*/ INTO %s SELECT * FROM %s", target,
+                                                           name));
+          LOG.info("Published {} rows from staging table {} to {}", rows, name, target);
+          result = new PublishResult(rows, 0);
+      }
+    }
+    connection.commit();
+    return result;
+  }
+
+  /**
+   * Drops the staging table, whether the load succeeded or not.
+   */
+  void drop(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(dropStatement());
+    }
+    connection.commit();
+  }
+
+  /**
+   * Swaps the partitions of the target table in the range of partition keys of the staged rows, or only the
+   * partitions of the staged rows when swapping each partition. The partition keys are computed with the partition
+   * expression of the target table, so that they are ordered like Vertica orders partitions.
+   */
+  private void swapPartitions(Connection connection, Statement statement) throws SQLException {
+    String expression = getPartitionExpression(connection);
+    // The partition expression refers to the columns through the target table name
+    if (swapEachPartition) {
+      List<String> keys = new ArrayList<>();
+      try (ResultSet rs = statement.executeQuery(String.format(
+        "SELECT DISTINCT (%s)::VARCHAR FROM %s AS %s", expression, name, unqualified(target)))) {
+        while (rs.next()) {
+          keys.add(rs.getString(1));
+        }
+      }
+      for (String key : keys) {
+        swap(connection, key, key);
+      }
+      LOG.info("Swapped {} partitions from staging table {} into {}", keys.size(), name, target);
+      return;
+    }
+    String minKey;
+    String maxKey;
+    try (ResultSet rs = statement.executeQuery(String.format(
+      "SELECT MIN(%1$s)::VARCHAR, MAX(%1$s)::VARCHAR FROM %2$s AS %3$s", expression, name, unqualified(target)))) {
+      rs.next();
+      minKey = rs.getString(1);
+      maxKey = rs.getString(2);
+    }
+    if (minKey == null) {
+      LOG.info("Staging table {} is empty, no partitions to swap into {}", name, target);
+      return;
+    }
+    swap(connection, minKey, maxKey);
+    LOG.info("Swapped partitions {} to {} from staging table {} into {}", minKey, maxKey, name, target);
+  }
+
+  private void swap(Connection connection, String minKey, String maxKey) throws SQLException {
+    try (PreparedStatement swap = connection.prepareStatement("SELECT SWAP_PARTITIONS_BETWEEN_TABLES(?, ?, ?, ?)")) {
+      swap.setString(1, name);
+      swap.setString(2, minKey);
+      swap.setString(3, maxKey);
+      swap.setString(4, target);
+      swap.execute();
+    }
+  }
+
+  /**
+   * Merges the staged rows into the target table with a single MERGE statement. The rows to update are counted before
+   * merging, in the same transaction, since MERGE only reports the total number of rows merged. The staging table has
+   * the columns of the target table.
+   */
+  private PublishResult merge(Statement statement, List<String> columns) throws SQLException {
+    long updated = 0;
+    // Matching rows are only updated if the table has other columns than the keys
+    if (columns.stream().anyMatch(column -> !isMergeKey(column))) {
+      try (ResultSet rs = statement.executeQuery(String.format(
+        "SELECT COUNT(*) FROM %s s WHERE EXISTS (SELECT 1 FROM %s t WHERE %s)", name, target, keyCondition()))) {
+        rs.next();
+        updated = rs.getLong(1);
+      }
+    }
+    String merge = buildMergeStatement(columns);
+    LOG.debug("Merging staging table {} with {}", name, merge);
+    long merged = statement.executeUpdate(merge);
+    LOG.info("Merged {} rows from staging table {} into {}: {} updated, {} inserted", merged, name, target, updated,
+             merged - updated);
+    return new PublishResult(merged - updated, updated);
+  }
+
+  /**
+   * Returns the MERGE statement updating the non-key columns of the target rows matching a staged row on the merge
+   * keys, and inserting the other staged rows.
+   */
+  String buildMergeStatement(List<String> columns) {
+    StringBuilder updates = new StringBuilder();
+    StringBuilder names = new StringBuilder();
+    StringBuilder values = new StringBuilder();
+    for (String column : columns) {
+      String quoted = quoteIdentifier(column);
+      if (!isMergeKey(column)) {
+        updates.append(updates.length() == 0 ? "" : ", ").append(quoted).append(" = s.").append(quoted);
+      }
+      names.append(names.length() == 0 ? "" : ", ").append(quoted);
+      values.append(values.length() == 0 ? "" : ", ").append("s.").append(quoted);
+    }
+    StringBuilder merge = new StringBuilder()
+      .append(String.format("MERGE /*+DIRECT*/ INTO %s t USING %s s ON %s", target, name, keyCondition()));
+    // Rows made only of key columns have nothing to update
+    if (updates.length() > 0) {
+      merge.append(" WHEN MATCHED THEN UPDATE SET ").append(updates);
+    }
+    return merge.append(" WHEN NOT MATCHED THEN INSERT (").append(names).append(") VALUES (").append(values)
+      .append(')').toString();
+  }
+
+  private String keyCondition() {
+    StringBuilder condition = new StringBuilder();
+    for (String key : mergeKeys) {
+      condition.append(condition.length() == 0 ? "" : " AND ").append(String.format("t.%1$s = s.%1$s", key));
+    }
+    return condition.toString();
+  }
+
+  private boolean isMergeKey(String column) {
+    for (String key : mergeKeys) {
+      if (unquoteIdentifier(key).equalsIgnoreCase(column)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String getPartitionExpression(Connection connection) throws SQLException {
+    int dot = target.lastIndexOf('.');
+    String query = "SELECT partition_expression FROM v_catalog.tables WHERE table_name ILIKE ?" +
+      (dot < 0 ? "" : " AND table_schema ILIKE ?");
+    try (PreparedStatement statement = connection.prepareStatement(query)) {
+      statement.setString(1, unqualified(target));
+      if (dot >= 0) {
+        statement.setString(2, target.substring(0, dot));
+      }
+      try (ResultSet rs = statement.executeQuery()) {
+        String expression = rs.next() ? rs.getString(1) : null;
+        if (expression == null || expression.trim().isEmpty()) {
+          throw new IllegalArgumentException(String.format(
+            "Table %s is not partitioned, so its partitions cannot be swapped. Please publish with '%s' instead.",
+            target, VerticaImportConfig.PUBLISH_MODE_INSERT));
+        }
+        return expression;
+      }
+    }
+  }
+
+  private String dropStatement() {
+    return String.format("DROP TABLE IF EXISTS %s CASCADE", name);
+  }
+
+  private static String quoteIdentifier(String identifier) {
+    return '"' + identifier.replace("\"", "\"\"") + '"';
+  }
+
+  private static String unquoteIdentifier(String identifier) {
+    return identifier.startsWith("\"") && identifier.endsWith("\"") && identifier.length() > 1 ?
+      identifier.substring(1, identifier.length() - 1).replace("\"\"", "\"") : identifier;
+  }
+
+  private static String unqualified(String table) {
+    return table.substring(table.lastIndexOf('.') + 1);
+  }
+
+  /**
+   * Rows published to the target table, or {@code -1} when they are not known.
+   */
+  static final class PublishResult {
+    private final long rowsInserted;
+    private final long rowsUpdated;
+
+    PublishResult(long rowsInserted, long rowsUpdated) {
+      this.rowsInserted = rowsInserted;
+      this.rowsUpdated = rowsUpdated;
+    }
+
+    long getRowsInserted() {
+      return rowsInserted;
+    }
+
+    long getRowsUpdated() {
+      return rowsUpdated;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import com.google.common.base.Strings;
+import org.apache.hadoop.fs.GlobPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/**
+ * Maps the files of a subdirectory or glob pattern under the loaded path to the table they are loaded into, so that a
+ * single load fans out to several tables. A mapping either names the table, which is loaded like with the Basic level,
+ * or gives the whole COPY statement, like with the Advanced level.
+ */
+final class TableMapping {
+  static final String ENTRY_SEPARATOR = ";";
+  static final String TABLE_SEPARATOR = ":";
+
+  private static final Pattern COPY_TABLE = Pattern.compile("^\\s*COPY\\s+([^\\s(]+)", Pattern.CASE_INSENSITIVE);
+
+  private final String pattern;
+  private final GlobPattern glob;
+  private final String table;
+  private final String copyStatement;
+  private final boolean namesTable;
+
+  TableMapping(String pattern, String target, CopyStatement template) {
+    this.pattern = pattern;
+    this.glob = new GlobPattern(pattern);
+    Matcher matcher = COPY_TABLE.matcher(target);
+    this.namesTable = !matcher.find();
+    if (!namesTable) {
+      this.table = matcher.group(1);
+      this.copyStatement = target.trim();
+    } else {
+      this.table = target.trim();
+      // COPY tableName FROM STDIN DELIMITER 'delimiter' ...
+      this.copyStatement = CopyStatement.builder(template).setTable(table).build().toString();
+    }
+  }
+
+  /**
+   * Parses mappings written as {@code pattern:target} entries separated by {@code ;}, where the target is a table
+   * name or a COPY statement. Only the first {@code :} of an entry separates the pattern from the target, and a
+   * {@code ;} inside a quoted string of a COPY statement, such as {@code DELIMITER ';'}, does not separate entries.
+   * Tables are copied with the options of the given statement, which has no table.
+   *
+   * @throws IllegalArgumentException if an entry is not a valid mapping
+   */
+  static List<TableMapping> parse(String mappings, CopyStatement template) {
+    List<TableMapping> parsed = new ArrayList<>();
+    for (String entry : splitEntries(mappings)) {
+      if (entry.trim().isEmpty()) {
+        continue;
+      }
+      int separator = entry.indexOf(TABLE_SEPARATOR);
+      String pattern = separator < 0 ? "" : entry.substring(0, separator).trim();
+      String target = separator < 0 ? "" : entry.substring(separator + 1).trim();
+      if (pattern.isEmpty() || target.isEmpty()) {
+        throw new IllegalArgumentException(String.format(
+          "Invalid table mapping '%s'. Mappings must be written as <pattern>%s<table or copy statement>.",
+          entry.trim(), TABLE_SEPARATOR));
+      }
+      if (template.isDelimited() && Strings.isNullOrEmpty(template.getDelimiter())
+        && !COPY_TABLE.matcher(target).find()) {
+        throw new IllegalArgumentException(String.format(
+          "Table mapping '%s' names a table, which requires a delimiter.", entry.trim()));
+      }
+      parsed.add(new TableMapping(pattern, target, template));
+    }
+    return parsed;
+  }
+
+  /**
+   * Splits mappings on the {@code ;} that are not inside a single quoted string.
+   *
+   * @throws IllegalArgumentException if a quoted string is not closed
+   */
+  private static List<String> splitEntries(String mappings) {
+    List<String> entries = new ArrayList<>();
+    boolean quoted = false;
+    int start = 0;
+    for (int i = 0; i < mappings.length(); i++) {
+      char c = mappings.charAt(i);
+      if (c == '\'') {
+        // A doubled quote inside a quoted string toggles twice, so it is kept in the string
+        quoted = !quoted;
+      } else if (!quoted && mappings.startsWith(ENTRY_SEPARATOR, i)) {
+        entries.add(mappings.substring(start, i));
+        start = i + ENTRY_SEPARATOR.length();
+      }
+    }
+    if (quoted) {
+      throw new IllegalArgumentException(String.format(
+        "Invalid table mappings '%s'. A quoted string is not closed.", mappings.trim()));
+    }
+    entries.add(mappings.substring(start));
+    return entries;
+  }
+
+  /**
+   * Returns the first mapping matching the path of a file relative to the loaded path, or {@code null} if none does.
+   */
+  @Nullable
+  static TableMapping find(List<TableMapping> mappings, String relativePath) {
+    for (TableMapping mapping : mappings) {
+      if (mapping.matches(relativePath)) {
+        return mapping;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns whether a file, given by its path relative to the loaded path, is loaded by this mapping. The pattern is
+   * matched against the whole relative path, and a pattern naming a subdirectory also matches the files under it.
+   */
+  boolean matches(String relativePath) {
+    return glob.matches(relativePath) || relativePath.startsWith(pattern.endsWith("/") ? pattern : pattern + "/");
+  }
+
+  String getPattern() {
+    return pattern;
+  }
+
+  String getTable() {
+    return table;
+  }
+
+  String getCopyStatement() {
+    return copyStatement;
+  }
+
+  /**
+   * Returns whether the mapping names a table, whose files are loaded like with the Basic level, rather than giving
+   * the COPY statement.
+   */
+  boolean namesTable() {
+    return namesTable;
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caches the existence and the columns of the tables of a load, so that each is only read from the database once
+ * per run. Both are read with an empty query on the table, which resolves the table name, schema qualified or not,
+ * like the COPY statement does. A staging table is created like its target table, so the columns of the target table
+ * are also used for the staging table.
+ */
+final class TableMetadata {
+  // SQL states of a query on a table or a schema that does not exist
+  private static final Set<String> UNDEFINED_TABLE_STATES = new HashSet<>(Arrays.asList("42V01", "3F000"));
+
+  private final Map<String, Boolean> exists = new HashMap<>();
+  private final Map<String, List<Column>> columns = new HashMap<>();
+
+  /**
+   * Returns whether the table exists, reading its columns with the given connection the first time the table is
+   * checked.
+   */
+  synchronized boolean exists(Connection connection, String table) throws SQLException {
+    Boolean cached = exists.get(table);
+    if (cached == null) {
+      try {
+        getColumns(connection, table);
+        cached = true;
+      } catch (SQLException e) {
+        if (!UNDEFINED_TABLE_STATES.contains(e.getSQLState())) {
+          throw e;
+        }
+        cached = false;
+        exists.put(table, false);
+      }
+    }
+    return cached;
+  }
+
+  /**
+   * Returns the names of the columns of the table in their order.
+   */
+  List<String> getColumnNames(Connection connection, String table) throws SQLException {
+    List<String> names = new ArrayList<>();
+    for (Column column : getColumns(connection, table)) {
+      names.add(column.getName());
+    }
+    return names;
+  }
+
+  /**
+   * Returns the columns of the table in their order, reading them with the given connection the first time the
+   * columns of the table are needed.
+   */
+  synchronized List<Column> getColumns(Connection connection, String table) throws SQLException {
+    List<Column> cached = columns.get(table);
+    if (cached == null) {
+      List<Column> read = new ArrayList<>();
+      try (Statement statement = connection.createStatement();
+           ResultSet rs = statement.executeQuery(String.format("SELECT * FROM %s LIMIT 0", table))) {
+        ResultSetMetaData metadata = rs.getMetaData();
+        for (int i = 1; i <= metadata.getColumnCount(); i++) {
+          read.add(new Column(metadata.getColumnName(i), metadata.getColumnType(i), metadata.getColumnTypeName(i),
+                              metadata.isNullable(i) != ResultSetMetaData.columnNoNulls));
+        }
+      }
+      cached = Collections.unmodifiableList(read);
+      columns.put(table, cached);
+      // A table with columns exists
+      exists.put(table, true);
+    }
+    return cached;
+  }
+
+  /**
+   * A column of a table.
+   */
+  static final class Column {
+    private final String name;
+    private final int type;
+    private final String typeName;
+    private final boolean nullable;
+
+    /**
+     * Creates a column of the given {@link java.sql.Types} type.
+     */
+    Column(String name, int type, String typeName, boolean nullable) {
+      this.name = name;
+      this.type = type;
+      this.typeName = typeName;
+      this.nullable = nullable;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    int getType() {
+      return type;
+    }
+
+    String getTypeName() {
+      return typeName;
+    }
+
+    boolean isNullable() {
+      return nullable;
+    }
+  }
+}
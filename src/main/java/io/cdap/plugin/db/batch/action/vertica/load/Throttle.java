@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the load put on a shared cluster, with a token bucket on the bytes sent to the COPY streams and a limit on the
+ * number of COPY streams open at once, from their start to their end, since an open stream holds its resources in the
+ * cluster even between executions. When adaptive, the limits are halved whenever the cluster looks
+ * congested, that is when more requests are waiting in the resource queues than at the previous check, or when
+ * throughput drops while every stream is busy. They are held while a backlog stays the same, since it may only come
+ * from other users of the cluster, and are raised back gradually once the queues drain, up to the configured limits.
+ */
+final class Throttle {
+  private static final Logger LOG = LoggerFactory.getLogger(Throttle.class);
+  // Adaptive throttling never goes below this rate
+  private static final long MIN_BYTES_PER_SECOND = 64 * 1024;
+  // Throughput below this fraction of the previous throughput while every stream is busy is a congestion signal
+  private static final double THROUGHPUT_DROP = 0.5;
+
+  private final long maxBytesPerSecond;
+  private final int maxStreams;
+  private final AtomicLong waitNanos = new AtomicLong();
+
+  private long bytesPerSecond;
+  private double available;
+  private long lastRefill;
+  private int streamLimit;
+  private int activeStreams;
+
+  private long bytesSinceAdapt;
+  private long lastAdapt;
+  private double lastThroughput;
+  private long lastQueued;
+
+  /**
+   * Creates a throttle limiting the bytes sent per second, if positive, and the number of concurrent streams.
+   */
+  Throttle(long maxBytesPerSecond, int maxStreams, long now) {
+    this.maxBytesPerSecond = maxBytesPerSecond;
+    this.maxStreams = maxStreams;
+    this.bytesPerSecond = maxBytesPerSecond;
+    this.available = maxBytesPerSecond;
+    this.lastRefill = now;
+    this.streamLimit = maxStreams;
+    this.lastAdapt = now;
+  }
+
+  static Throttle of(VerticaImportConfig config) {
+    return new Throttle(config.getThrottleBytesPerSecond(), config.getMaxConcurrentStreams(), System.nanoTime());
+  }
+
+  /**
+   * Returns a stream sending the bytes read from the given stream no faster than allowed.
+   */
+  InputStream throttled(InputStream in) {
+    return new CountingInputStream(in, this::acquire);
+  }
+
+  /**
+   * Takes the given number of bytes from the bucket, waiting until the bucket covers them if it is in debt.
+   */
+  void acquire(long bytes) {
+    long wait = reserve(bytes, System.nanoTime());
+    if (wait <= 0) {
+      return;
+    }
+    waitNanos.addAndGet(wait);
+    try {
+      TimeUnit.NANOSECONDS.sleep(wait);
+    } catch (InterruptedException e) {
+      // Let the COPY stream notice the interruption
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Takes the given number of bytes from the bucket, which refills at the current rate and holds up to one second of
+   * bytes. Returns how long to wait, in nanoseconds, for the bucket to cover the bytes taken.
+   */
+  synchronized long reserve(long bytes, long now) {
+    bytesSinceAdapt += bytes;
+    if (bytesPerSecond <= 0) {
+      return 0;
+    }
+    available = Math.min(bytesPerSecond, available + (now - lastRefill) * bytesPerSecond / 1e9);
+    lastRefill = now;
+    available -= bytes;
+    return available >= 0 ? 0 : (long) (-available * 1e9 / bytesPerSecond);
+  }
+
+  /**
+   * Waits until a stream can start under the current limit of concurrent streams. The stream holds its permit until
+   * {@link #endStream()} is called.
+   */
+  synchronized void startStream() throws InterruptedException {
+    while (activeStreams >= streamLimit) {
+      wait();
+    }
+    activeStreams++;
+  }
+
+  synchronized void endStream() {
+    activeStreams--;
+    notifyAll();
+  }
+
+  /**
+   * Returns whether more streams are open than the current limit allows, after it was lowered, in which case streams
+   * should end so that the limit is reached.
+   */
+  synchronized boolean isOverLimit() {
+    return activeStreams > streamLimit;
+  }
+
+  /**
+   * Adapts the limits to the state of the cluster, given the number of requests waiting in its resource queues, and
+   * the throughput since the previous call.
+   */
+  synchronized void adapt(long queued, long now) {
+    double seconds = (now - lastAdapt) / 1e9;
+    double throughput = seconds > 0 ? bytesSinceAdapt / seconds : 0;
+    boolean congested = queued > lastQueued
+      || (activeStreams >= streamLimit && throughput < lastThroughput * THROUGHPUT_DROP);
+    if (congested) {
+      // Without a rate, start from the measured throughput
+      long base = bytesPerSecond > 0 ? bytesPerSecond : (long) throughput;
+      setRate(Math.max(MIN_BYTES_PER_SECOND, base / 2));
+      streamLimit = Math.max(1, streamLimit / 2);
+      LOG.info("Cluster is congested with {} queued requests and {} bytes/s, throttling to {} bytes/s and {} streams",
+               queued, (long) throughput, bytesPerSecond, streamLimit);
+    } else if (queued > 0 && queued == lastQueued) {
+      LOG.debug("{} requests are still queued, holding the throttle at {} bytes/s and {} streams", queued,
+                bytesPerSecond, streamLimit);
+    } else if (bytesPerSecond != maxBytesPerSecond || streamLimit < maxStreams) {
+      if (maxBytesPerSecond > 0) {
+        setRate(Math.min(maxBytesPerSecond, bytesPerSecond + maxBytesPerSecond / 10));
+      } else if (throughput < bytesPerSecond * THROUGHPUT_DROP) {
+        // The rate no longer limits the load
+        setRate(0);
+      } else {
+        setRate(bytesPerSecond + bytesPerSecond / 4);
+      }
+      streamLimit = Math.min(maxStreams, streamLimit + 1);
+      notifyAll();
+    }
+    bytesSinceAdapt = 0;
+    lastAdapt = now;
+    lastThroughput = throughput;
+    lastQueued = queued;
+  }
+
+  synchronized long getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  synchronized int getStreamLimit() {
+    return streamLimit;
+  }
+
+  /**
+   * Returns the total time spent waiting for the bucket.
+   */
+  long getWaitNanos() {
+    return waitNanos.get();
+  }
+
+  private void setRate(long rate) {
+    bytesPerSecond = rate;
+    available = Math.min(available, rate);
+  }
+}
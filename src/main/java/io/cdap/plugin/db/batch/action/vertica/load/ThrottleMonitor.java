@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.cdap.cdap.etl.api.StageMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Adapts a {@link Throttle} to the state of the cluster, by periodically reading the number of requests waiting in the
+ * resource queues of {@code v_monitor.resource_queues} on a connection of its own.
+ */
+final class ThrottleMonitor implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(ThrottleMonitor.class);
+  static final String BYTES_PER_SECOND = "throttle.bytes.per.sec";
+  static final String STREAMS = "throttle.streams";
+  private static final long POLL_SECONDS = 10;
+  private static final long STOP_TIMEOUT_SECONDS = 30;
+
+  private final Throttle throttle;
+  private final ConnectionPool pool;
+  private final String resourcePool;
+  private final StageMetrics metrics;
+  private ScheduledExecutorService executor;
+  private Connection connection;
+
+  ThrottleMonitor(Throttle throttle, ConnectionPool pool, @Nullable String resourcePool, StageMetrics metrics) {
+    this.throttle = throttle;
+    this.pool = pool;
+    this.resourcePool = resourcePool;
+    this.metrics = metrics;
+  }
+
+  void start() throws SQLException {
+    connection = pool.acquire();
+    executor = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("vertica-bulk-load-throttle").setDaemon(true).build());
+    executor.scheduleWithFixedDelay(this::poll, POLL_SECONDS, POLL_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Stops monitoring, releasing the connection to the pool once the last poll finished.
+   */
+  @Override
+  public void close() {
+    if (executor == null) {
+      return;
+    }
+    executor.shutdownNow();
+    try {
+      if (executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        pool.release(connection);
+      } else {
+        LOG.warn("Throttle monitor did not stop within {} seconds", STOP_TIMEOUT_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void poll() {
+    long queued;
+    try {
+      queued = queuedRequests();
+    } catch (SQLException e) {
+      // Keep the current limits, the load should not fail because the cluster could not be monitored
+      LOG.warn("Failed to read the resource queues, keeping the current throttle", e);
+      return;
+    }
+    throttle.adapt(queued, System.nanoTime());
+    metrics.gauge(BYTES_PER_SECOND, throttle.getBytesPerSecond());
+    metrics.gauge(STREAMS, throttle.getStreamLimit());
+  }
+
+  private long queuedRequests() throws SQLException {
+    String query = "SELECT COUNT(*) FROM v_monitor.resource_queues" +
+      (Strings.isNullOrEmpty(resourcePool) ? "" : " WHERE pool_name ILIKE ?");
+    try (PreparedStatement statement = connection.prepareStatement(query)) {
+      if (!Strings.isNullOrEmpty(resourcePool)) {
+        statement.setString(1, resourcePool);
+      }
+      try (ResultSet rs = statement.executeQuery()) {
+        rs.next();
+        return rs.getLong(1);
+      }
+    } finally {
+      // Do not hold a transaction open between polls
+      connection.commit();
+    }
+  }
+}
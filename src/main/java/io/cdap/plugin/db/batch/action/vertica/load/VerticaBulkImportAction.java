@@ -17,9 +17,9 @@
 package io.cdap.plugin.db.batch.action.vertica.load;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
 import com.google.common.base.Throwables;
-import com.vertica.jdbc.VerticaConnection;
-import com.vertica.jdbc.VerticaCopyStream;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.cdap.cdap.api.annotation.Description;
 import io.cdap.cdap.api.annotation.Name;
 import io.cdap.cdap.api.annotation.Plugin;
@@ -29,22 +29,33 @@ import io.cdap.cdap.etl.api.StageConfigurer;
 import io.cdap.cdap.etl.api.action.Action;
 import io.cdap.cdap.etl.api.action.ActionContext;
 import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DatabaseMetaData;
-import java.sql.Driver;
-import java.sql.DriverManager;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /**
  * Runs a query after a pipeline run.
@@ -54,6 +65,7 @@ import java.util.List;
 @Description("Vertica bulk load plugin")
 public class VerticaBulkImportAction extends Action {
   private static final Logger LOG = LoggerFactory.getLogger(VerticaBulkImportAction.class);
+  private static final long WORKER_STOP_TIMEOUT_SECONDS = 60;
   private final VerticaImportConfig config;
 
   public VerticaBulkImportAction(VerticaImportConfig config) {
@@ -75,119 +87,534 @@ public class VerticaBulkImportAction extends Action {
     config.validate(failureCollector);
     failureCollector.getOrThrowException();
 
-    Object driver = Class.forName("com.vertica.jdbc.Driver").newInstance();
-    DriverManager.registerDriver((Driver) driver);
+    ConnectionPool pool = new ConnectionPool(config);
+    try {
+      run(context, pool, new TableMetadata());
+    } finally {
+      pool.close();
+    }
+  }
 
-    Preconditions.checkArgument(
-      tableExists(config.getTableName()),
-      "Table %s does not exist. Please check that the 'tableName' property " +
-        "has been set correctly, and that the connection string %s points to a valid database.",
-      config.getTableName(), config.getConnectionString());
+  /**
+   * Runs the load with connections from the given pool, which are reused whenever they are not loading.
+   */
+  private void run(ActionContext context, ConnectionPool pool, TableMetadata metadata) throws Exception {
+    List<TableMapping> mappings = config.getTableMappings();
+    if (mappings.isEmpty()) {
+      Preconditions.checkArgument(
+        tableExists(pool, metadata, config.getTableName()),
+        "Table %s does not exist. Please check that the 'tableName' property " +
+          "has been set correctly, and that the connection string %s points to a valid database.",
+        config.getTableName(), config.getConnectionString());
+    }
+    for (TableMapping mapping : mappings) {
+      Preconditions.checkArgument(
+        tableExists(pool, metadata, mapping.getTable()),
+        "Table %s of the mapping of '%s' does not exist. Please check the 'tableMappings' property, and that the " +
+          "connection string %s points to a valid database.",
+        mapping.getTable(), mapping.getPattern(), config.getConnectionString());
+    }
 
+    // With a staging table, the files are loaded into the staging table and published to the table at the end
+    StagingTable staging = config.isStaged() ?
+      StagingTable.of(config, UUID.randomUUID().toString().replace("-", "")) : null;
+    VerticaImportConfig loadConfig = staging == null ? config :
+      VerticaImportConfig.builder(config).setTableName(staging.getName()).build();
+    CopyStatement template = CopyStatement.builder(config).setTable(loadConfig.getTableName()).build();
     String copyStatement;
 
     if (config.getLevel().equalsIgnoreCase("basic")) {
-      // COPY tableName FROM STDIN DELIMITER 'delimiter'
-      copyStatement = String.format("COPY %s FROM STDIN DELIMITER '%s'", config.getTableName(), config.getDelimiter());
+      // COPY tableName FROM STDIN DELIMITER 'delimiter' ...
+      copyStatement = template.toString();
     } else {
       copyStatement = config.getCopyStatement();
     }
 
     LOG.debug("Copy statement is: {}", copyStatement);
 
+    // Workers replace their connection in the list if it is lost
+    List<Connection> connections = Collections.synchronizedList(new ArrayList<>());
     try {
-      try (Connection connection = DriverManager.getConnection(config.getConnectionString(), config.getUser(),
-                                                               config.getPassword())) {
-        connection.setAutoCommit(false);
-        // run Copy statement
-        VerticaCopyStream stream = new VerticaCopyStream((VerticaConnection) connection, copyStatement);
-        // Keep running count of the number of rejects
-        int totalRejects = 0;
-
-        // start() starts the stream process, and opens the COPY command.
-        stream.start();
-
-        FileSystem fs = FileSystem.get(new Configuration());
-
-        List<String> fileList = new ArrayList<>();
-        FileStatus[] fileStatus;
-        try {
-          fileStatus = fs.listStatus(new Path(config.getPath()));
-          for (FileStatus fileStat : fileStatus) {
-            fileList.add(fileStat.getPath().toString());
-          }
-        } catch (FileNotFoundException e) {
-          throw new IllegalArgumentException(String.format(
-            String.format("Path %s not found on file system. Please provide correct path.", config.getPath()), e));
+      FileSystem fs = FileSystem.get(new Configuration());
+      // Partition directories are subdirectories of the path
+      FileDiscovery discovery = new FileDiscovery(fs, new Path(config.getPath()),
+                                                  config.isRecursive() || config.isPartitioned(),
+                                                  config.getIncludeFiles(), config.getExcludeFiles(),
+                                                  config.isSkipHiddenFiles());
+      if (config.getPreflightSampleFiles() > 0) {
+        validateSample(fs, discovery, pool, metadata, template, mappings);
+      }
+
+      // Ranges loaded into a staging table are only recorded when the staging table is published
+      LoadManifest manifest = readManifest(pool, staging != null);
+      LoadMetrics metrics = new LoadMetrics(context.getMetrics());
+      RejectTracker rejectTracker = new RejectTracker(
+        fs, Strings.isNullOrEmpty(config.getRejectsPath()) ? null : new Path(config.getRejectsPath()),
+        config.getMaxRejects(), config.getMaxRejectPercent());
+
+      // Prepare the load on a single connection, which is then reused by the load
+      NodeConnector connector = new NodeConnector(config, pool);
+      HivePartitions partitions = null;
+      Connection control = pool.acquire();
+      try {
+        if (staging != null) {
+          staging.create(control);
+        }
+        if (config.isPartitioned()) {
+          // The staging table is created like the table, so it has the columns of the table
+          partitions = HivePartitions.of(template, config.getPartitionColumns(),
+                                         metadata.getColumnNames(control, config.getTableName()));
         }
+        if (!config.isServerSideLoad()) {
+          connector.discover(control);
+        }
+        control.commit();
+      } finally {
+        pool.release(control);
+      }
 
-        if (fileStatus.length <= 0) {
-          LOG.warn("No files available to load into vertica database");
+      if (config.isServerSideLoad()) {
+        loadOnServer(context, fs, discovery, manifest, metrics, rejectTracker, loadConfig, pool, connections);
+      } else {
+        loadStreams(context, fs, discovery, manifest, metrics, rejectTracker, copyStatement, partitions, mappings,
+                    pool, connector, connections);
+      }
+
+      // Commit the loaded data. Workers only finish their COPY streams, so that all of them commit together.
+      for (Connection connection : connections) {
+        long commitStart = System.nanoTime();
+        connection.commit();
+        metrics.committed(System.nanoTime() - commitStart);
+      }
+      for (Connection connection : connections) {
+        pool.release(connection);
+      }
+      connections.clear();
+
+      if (staging != null) {
+        Connection connection = pool.acquire();
+        connections.add(connection);
+        long publishStart = System.nanoTime();
+        StagingTable.PublishResult published = staging.publish(connection, manifest, metadata);
+        context.getMetrics().gauge("publish.ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - publishStart));
+        if (config.isMerge()) {
+          // The rows inserted into the staging table are either inserted into the table or update one of its rows
+          context.getMetrics().gauge("num.of.rows.inserted", published.getRowsInserted());
+          context.getMetrics().gauge("num.of.rows.updated", published.getRowsUpdated());
         }
+      }
+    } catch (Exception e) {
+      rollback(pool, connections);
+      throw new RuntimeException(String.format("Exception while running copy statement %s", copyStatement), e);
+    } finally {
+      if (staging != null) {
+        dropStagingTable(pool, staging);
+      }
+    }
+  }
 
-        for (String file : fileList) {
-          Path path = new Path(file);
-
-          FSDataInputStream inputStream = fs.open(path);
-          // Add stream to the VerticaCopyStream
-          stream.addStream(inputStream);
-
-          // call execute() to load the newly added stream. You could
-          // add many streams and call execute once to load them all.
-          // Which method you choose depends mainly on whether you want
-          // the ability to check the number of rejections as the load
-          // progresses so you can stop if the number of rejects gets too
-          // high. Also, high numbers of InputStreams could create a
-          // resource issue on your client system.
-          stream.execute();
-
-          // Show any rejects from this execution of the stream load
-          // getRejects() returns a List containing the
-          // row numbers of rejected rows.
-          List<Long> rejects = stream.getRejects();
-
-          // The size of the list gives you the number of rejected rows.
-          int numRejects = rejects.size();
-          totalRejects += numRejects;
-          if (config.getAutoCommit().equalsIgnoreCase("true")) {
-            // Commit the loaded data
-            connection.commit();
+  /**
+   * Streams the files from this container to Vertica through parallel COPY streams. Files are loaded while they are
+   * still being listed. With table mappings or Hive style partitions, the files of each table or partition are batched
+   * and copied separately, sharing the workers.
+   * The connections opened for the workers, spread over the nodes by the given connector, are added to the given list,
+   * with their data left uncommitted.
+   */
+  private void loadStreams(ActionContext context, FileSystem fs, FileDiscovery discovery,
+                           @Nullable LoadManifest manifest, LoadMetrics metrics, RejectTracker rejectTracker,
+                           String copyStatement, @Nullable HivePartitions partitions, List<TableMapping> mappings,
+                           ConnectionPool pool, NodeConnector connector,
+                           List<Connection> connections) throws Exception {
+    CompressionCodecFactory codecs = new CompressionCodecFactory(fs.getConf());
+    // The load method of the generated statements is chosen as the files are listed
+    LoadMethodSelector selector = config.getLevel().equalsIgnoreCase("basic") && config.isAutomaticLoadMethod() ?
+      new LoadMethodSelector(config.getDirectThresholdBytes()) : null;
+    BatchRouter router = new BatchRouter(copyStatement, partitions, mappings, config.getBatchMaxBytes(),
+                                         config.getBatchMaxFiles(), selector);
+    LoadQueue batches = new LoadQueue();
+    List<LoadBatch> batchList = new ArrayList<>();
+    Throttle throttle = config.isThrottled() ? Throttle.of(config) : null;
+    ThrottleMonitor throttleMonitor = null;
+    if (throttle != null && config.isAdaptiveThrottle()) {
+      throttleMonitor = new ThrottleMonitor(throttle, pool, config.getThrottleResourcePool(), context.getMetrics());
+      throttleMonitor.start();
+    }
+
+    // Sinks of the workers that have not exited yet, and of those abandoned because they did not stop in time
+    Set<CopySink> running = new HashSet<>();
+    Set<CopySink> abandoned = new HashSet<>();
+    ExecutorService executor = Executors.newFixedThreadPool(
+      config.getParallelism(),
+      new ThreadFactoryBuilder().setNameFormat("vertica-bulk-load-%d").setDaemon(true).build());
+    try {
+      CompletionService<LoadResult> completionService = new ExecutorCompletionService<>(executor);
+      List<LoadResult> results = new ArrayList<>();
+      int fileCount = 0;
+      int rangeCount = 0;
+      int skippedCount = 0;
+      int unmappedCount = 0;
+      RemoteIterator<LocatedFileStatus> files = discovery.list();
+      boolean listing = true;
+      while (listing) {
+        List<LoadBatch> completed = new ArrayList<>();
+        if (files.hasNext()) {
+          FileStatus file = files.next();
+          fileCount++;
+          if (selector != null) {
+            selector.listed(file.getLen());
+          }
+          LoadBatch.Grouper grouper = router.route(discovery.relativize(file.getPath()));
+          if (grouper == null) {
+            unmappedCount++;
+            if (selector != null) {
+              selector.skipped(file.getLen());
+            }
+            continue;
+          }
+          // Compressed files are detected by extension, unless the copy statement already names the compression
+          CompressionCodec codec = CopyCompression.isSpecified(grouper.getCopyStatement()) ? null :
+            codecs.getCodec(file.getPath());
+          for (FileRange range : FileRange.split(file, config.getSplitSize(), codec)) {
+            if (manifest != null && manifest.isLoaded(range)) {
+              skippedCount++;
+              if (selector != null) {
+                selector.skipped(range.getLength());
+              }
+              continue;
+            }
+            rangeCount++;
+            completed.addAll(grouper.add(range));
+          }
+        } else {
+          completed.addAll(router.flush());
+          listing = false;
+        }
+        for (LoadBatch batch : completed) {
+          batches.add(batch);
+          batchList.add(batch);
+          // Start another worker for each batch until the configured parallelism is reached
+          if (connections.size() < config.getParallelism()) {
+            NodeConnector.NodeConnection connection = connector.open();
+            connections.add(connection.getConnection());
+            VerticaCopySink sink = new VerticaCopySink(connection.getConnection(),
+                                                       lost -> reconnect(pool, connector, connections, lost));
+            LoadWorker worker = new LoadWorker(sink, connection.getNode(), copyStatement, fs, batches, config,
+                                               manifest, metrics, rejectTracker, throttle);
+            synchronized (running) {
+              running.add(sink);
+            }
+            completionService.submit(() -> {
+              try {
+                return worker.call();
+              } finally {
+                workerExited(sink, running, abandoned);
+              }
+            });
           }
         }
+        // Fail fast if a worker already failed. Workers only complete before the end of the listing if they fail.
+        Future<LoadResult> done;
+        while ((done = completionService.poll()) != null) {
+          results.add(done.get());
+        }
+      }
+      batches.close();
 
-        // Finish closes the COPY command. It returns the number of
-        // rows inserted.
-        long results = stream.finish();
+      if (fileCount == 0) {
+        LOG.warn("No files available to load into vertica database");
+      }
+      if (unmappedCount > 0) {
+        LOG.warn("Skipped {} files not matching any table mapping", unmappedCount);
+      }
+      if (manifest != null) {
+        LOG.info("Skipped {} ranges already loaded according to manifest table {}", skippedCount,
+                 config.getManifestTable());
+        context.getMetrics().gauge("num.of.ranges.skipped", skippedCount);
+      }
+      // Never open more connections than there are batches to load
+      int parallelism = connections.size();
+      LoadScheduler scheduler = new LoadScheduler(Math.max(1, parallelism));
+      LOG.info("Listed {} files as {} ranges in {} batches loading with parallelism {}. " +
+                 "Predicted bytes per load slot: {}", fileCount, rangeCount, batchList.size(), parallelism,
+               LoadScheduler.formatSlotBytes(scheduler.predictSlotBytes(scheduler.order(batchList))));
 
-        context.getMetrics().gauge("num.of.rows.rejected", totalRejects);
-        context.getMetrics().gauge("num.of.rows.inserted", results);
+      while (results.size() < parallelism) {
+        results.add(completionService.take().get());
+      }
 
-        // Commit the loaded data
-        connection.commit();
+      long totalRejects = 0;
+      long inserted = 0;
+      long[] slotBytes = new long[results.size()];
+      long copyWaitMillis = 0;
+      long readBlockedMillis = 0;
+      for (int i = 0; i < results.size(); i++) {
+        LoadResult result = results.get(i);
+        totalRejects += result.getRowsRejected();
+        inserted += result.getRowsInserted();
+        slotBytes[i] = result.getBytesLoaded();
+        copyWaitMillis += result.getCopyWaitMillis();
+        readBlockedMillis += result.getReadBlockedMillis();
       }
-    } catch (Exception e) {
-      throw new RuntimeException(String.format("Exception while running copy statement %s", copyStatement), e);
+      LOG.info("Actual bytes per load slot: {}", LoadScheduler.formatSlotBytes(slotBytes));
+      if (!metrics.getNodeBytes().isEmpty()) {
+        LOG.info("Bytes loaded per node: {}", metrics.getNodeBytes());
+      }
+      metrics.flush();
+      if (metrics.getRetries() > 0) {
+        LOG.warn("Retried {} failed batches, loading {} bytes again", metrics.getRetries(), metrics.getBytesWasted());
+      }
+
+      if (totalRejects > 0) {
+        LOG.info("{} rows rejected. Files with the most rejected rows: {}", totalRejects, rejectTracker.summary(10));
+      }
+      context.getMetrics().gauge("num.of.rows.rejected", totalRejects);
+      context.getMetrics().gauge("num.of.rows.inserted", inserted);
+      if (config.getReadAheadBuffers() > 0) {
+        LOG.info("COPY streams waited {} ms for read-ahead data, readers were blocked {} ms on full buffers",
+                 copyWaitMillis, readBlockedMillis);
+        context.getMetrics().gauge("read.ahead.copy.wait.ms", copyWaitMillis);
+        context.getMetrics().gauge("read.ahead.read.blocked.ms", readBlockedMillis);
+      }
+      if (throttle != null) {
+        long throttleWaitMillis = TimeUnit.NANOSECONDS.toMillis(throttle.getWaitNanos());
+        LOG.info("COPY streams waited {} ms for the throttle", throttleWaitMillis);
+        context.getMetrics().gauge("throttle.wait.ms", throttleWaitMillis);
+      }
+    } finally {
+      // Stop the remaining workers if the load failed, and let them finish their current execution before the
+      // connections are rolled back
+      batches.abort();
+      executor.shutdownNow();
+      if (!executor.awaitTermination(WORKER_STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        // Rolling back or closing a connection still used by a worker could break it and hide the failure, so the
+        // connections of those workers are left to them until they exit. They do not commit once the load is aborted.
+        synchronized (running) {
+          LOG.warn("{} load workers did not stop within {} seconds, closing their connections once they exit",
+                   running.size(), WORKER_STOP_TIMEOUT_SECONDS);
+          for (CopySink sink : running) {
+            connections.remove(sink.getConnection());
+            pool.abandon(sink.getConnection());
+          }
+          abandoned.addAll(running);
+        }
+      }
+      if (throttleMonitor != null) {
+        throttleMonitor.close();
+      }
+    }
+  }
+
+  /**
+   * Has the Vertica nodes read the files directly from the file system into the table of the given config, which is
+   * the staging table if any. The connection used is added to the given list, with the data loaded since its last
+   * commit left uncommitted.
+   */
+  private void loadOnServer(ActionContext context, FileSystem fs, FileDiscovery discovery,
+                            @Nullable LoadManifest manifest, LoadMetrics metrics, RejectTracker rejectTracker,
+                            VerticaImportConfig loadConfig, ConnectionPool pool, List<Connection> connections)
+    throws IOException, SQLException {
+    List<FileStatus> files = new ArrayList<>();
+    int listed = 0;
+    RemoteIterator<LocatedFileStatus> listing = discovery.list();
+    while (listing.hasNext()) {
+      FileStatus file = listing.next();
+      listed++;
+      if (manifest == null || !manifest.isLoaded(new FileRange(file, 0, file.getLen()))) {
+        files.add(file);
+      }
+    }
+    if (listed == 0) {
+      LOG.warn("No files available to load into vertica database");
+    }
+    if (manifest != null) {
+      LOG.info("Skipped {} files already loaded according to manifest table {}", listed - files.size(),
+               config.getManifestTable());
+      context.getMetrics().gauge("num.of.ranges.skipped", listed - files.size());
+    }
+
+    Connection connection = pool.acquire();
+    connections.add(connection);
+    if (config.getLevel().equalsIgnoreCase("basic")) {
+      LOG.info("Loading {} files with server side COPY", files.size());
+    } else {
+      LOG.info("Loading with the server side copy statement, which names its own files");
+    }
+    LoadResult result = new ServerSideLoader(loadConfig, new CompressionCodecFactory(fs.getConf()))
+      .load(connection, files, manifest, metrics, rejectTracker);
+
+    context.getMetrics().gauge("num.of.rows.rejected", result.getRowsRejected());
+    context.getMetrics().gauge("num.of.rows.inserted", result.getRowsInserted());
+  }
+
+  /**
+   * Checks the first lines of the first listed files against the columns of the tables they are copied into, and fails
+   * with the problems found before anything is copied. Lines are parsed with the options of the given statement.
+   * Files copied with a COPY statement given by the user are not checked, since the statement decides how their
+   * lines are parsed.
+   */
+  private void validateSample(FileSystem fs, FileDiscovery discovery, ConnectionPool pool, TableMetadata metadata,
+                              CopyStatement template, List<TableMapping> mappings) throws IOException, SQLException {
+    if (mappings.isEmpty() && !config.getLevel().equalsIgnoreCase("basic")) {
+      LOG.info("Skipping pre-flight validation, which does not apply to the Advanced level");
+      return;
+    }
+    if (!template.isDelimited()) {
+      LOG.info("Skipping pre-flight validation, which only applies to delimited files");
+      return;
+    }
+    CompressionCodecFactory codecs = new CompressionCodecFactory(fs.getConf());
+    SampleValidator validator = new SampleValidator(template, 10);
+    int sampled = 0;
+    Connection connection = pool.acquire();
+    try {
+      RemoteIterator<LocatedFileStatus> files = discovery.list();
+      while (sampled < config.getPreflightSampleFiles() && files.hasNext()) {
+        FileStatus file = files.next();
+        String relativePath = discovery.relativize(file.getPath());
+        String table = config.getTableName();
+        if (!mappings.isEmpty()) {
+          TableMapping mapping = TableMapping.find(mappings, relativePath);
+          if (mapping == null || !mapping.namesTable()) {
+            continue;
+          }
+          table = mapping.getTable();
+        }
+        List<TableMetadata.Column> columns = new ArrayList<>();
+        for (TableMetadata.Column column : metadata.getColumns(connection, table)) {
+          // Partition values are not read from the files
+          if (config.getPartitionColumns().stream().noneMatch(column.getName()::equalsIgnoreCase)) {
+            columns.add(column);
+          }
+        }
+        if (!template.getColumns().isEmpty()) {
+          columns = copyColumns(template.getColumns(), columns, table);
+        }
+        CompressionCodec codec = codecs.getCodec(file.getPath());
+        try (InputStream in = codec == null ? fs.open(file.getPath()) :
+          codec.createInputStream(fs.open(file.getPath()))) {
+          validator.validate(relativePath, in, config.getPreflightSampleLines(), columns);
+        }
+        sampled++;
+      }
+      connection.commit();
     } finally {
-      DriverManager.deregisterDriver((Driver) driver);
+      pool.release(connection);
+    }
+    if (!validator.getProblems().isEmpty()) {
+      throw new IllegalArgumentException(String.format(
+        "Pre-flight validation of %d sampled files failed, no data was loaded. %s", sampled,
+        String.join(" ", validator.getProblems())));
     }
+    LOG.info("Pre-flight validation of the first {} lines of {} sampled files passed", config.getPreflightSampleLines(),
+             sampled);
   }
 
-  public boolean tableExists(String tableName) {
-    Connection connection;
+  /**
+   * Returns the columns of a table read by a COPY statement with the given column list, in the order of the list.
+   *
+   * @throws IllegalArgumentException if a column of the list is not a column of the table
+   */
+  private static List<TableMetadata.Column> copyColumns(List<String> names, List<TableMetadata.Column> tableColumns,
+                                                        String table) {
+    List<TableMetadata.Column> columns = new ArrayList<>();
+    for (String name : names) {
+      TableMetadata.Column column = tableColumns.stream().filter(c -> c.getName().equalsIgnoreCase(name))
+        .findFirst().orElseThrow(() -> new IllegalArgumentException(
+          String.format("Copy column %s is not a column of table %s.", name, table)));
+      columns.add(column);
+    }
+    return columns;
+  }
+
+  /**
+   * Returns the manifest of the files already loaded, or {@code null} if no manifest table is configured.
+   */
+  @Nullable
+  private LoadManifest readManifest(ConnectionPool pool, boolean deferred) throws SQLException {
+    if (Strings.isNullOrEmpty(config.getManifestTable())) {
+      return null;
+    }
+    LoadManifest manifest = new LoadManifest(config.getManifestTable(), deferred);
+    Connection connection = pool.acquire();
     try {
-      if (config.getUser() == null) {
-        connection = DriverManager.getConnection(config.getConnectionString());
-      } else {
-        connection = DriverManager.getConnection(config.getConnectionString(), config.getUser(), config.getPassword());
+      manifest.read(connection);
+      connection.commit();
+    } finally {
+      pool.release(connection);
+    }
+    return manifest;
+  }
+
+  private void dropStagingTable(ConnectionPool pool, StagingTable staging) {
+    try {
+      Connection connection = pool.acquire();
+      try {
+        staging.drop(connection);
+      } finally {
+        pool.release(connection);
+      }
+    } catch (SQLException e) {
+      LOG.warn("Failed to drop staging table {}", staging.getName(), e);
+    }
+  }
+
+  /**
+   * Opens a connection replacing a lost worker connection, in the given list of the connections committed at the end
+   * of the load. The lost connection is closed, which has the server roll back what it kept of its transaction.
+   */
+  private static Connection reconnect(ConnectionPool pool, NodeConnector connector, List<Connection> connections,
+                                      Connection lost) throws SQLException {
+    if (!connections.contains(lost)) {
+      throw new SQLException("The load was stopped while the connection of a worker was lost.");
+    }
+    Connection connection = connector.open().getConnection();
+    synchronized (connections) {
+      connections.set(connections.indexOf(lost), connection);
+    }
+    pool.discard(lost);
+    LOG.info("Reconnected a worker whose connection was lost");
+    return connection;
+  }
+
+  /**
+   * Forgets the worker of the given sink once it exits, closing its connection if it was abandoned, which rolls back
+   * what the worker loaded since its last commit.
+   */
+  private void workerExited(CopySink sink, Set<CopySink> running, Set<CopySink> abandoned) {
+    synchronized (running) {
+      running.remove(sink);
+      if (!abandoned.remove(sink)) {
+        return;
+      }
+    }
+    try {
+      sink.getConnection().close();
+    } catch (SQLException e) {
+      LOG.warn("Failed to close abandoned connection to {}", config.getConnectionString(), e);
+    }
+  }
+
+  /**
+   * Rolls back the given connections, releasing the ones rolled back to the pool.
+   */
+  private void rollback(ConnectionPool pool, List<Connection> connections) {
+    for (Connection connection : connections) {
+      try {
+        connection.rollback();
+        pool.release(connection);
+      } catch (SQLException e) {
+        LOG.warn("Failed to roll back transaction on {}", config.getConnectionString(), e);
       }
+    }
+  }
 
+  private boolean tableExists(ConnectionPool pool, TableMetadata metadata, String tableName) {
+    try {
+      Connection connection = pool.acquire();
       try {
-        DatabaseMetaData metadata = connection.getMetaData();
-        try (ResultSet rs = metadata.getTables(null, null, tableName, null)) {
-          return rs.next();
-        }
+        return metadata.exists(connection, tableName);
       } finally {
-        connection.close();
+        pool.release(connection);
       }
     } catch (SQLException e) {
       LOG.error("Exception while trying to check the existence of database table {} for connection {}.",
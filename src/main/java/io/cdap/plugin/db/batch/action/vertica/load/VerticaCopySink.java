@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import com.vertica.jdbc.VerticaConnection;
+import com.vertica.jdbc.VerticaCopyStream;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.Savepoint;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Copies into Vertica with {@link VerticaCopyStream}, over a connection that does not auto commit. A lost connection
+ * is replaced by the given reconnector, if any.
+ */
+final class VerticaCopySink implements CopySink {
+  // Time the server has to answer before the connection is considered lost
+  private static final int VALID_TIMEOUT_SECONDS = 10;
+
+  private final Reconnector reconnector;
+  private Connection connection;
+  private Savepoint savepoint;
+
+  VerticaCopySink(Connection connection) {
+    this(connection, null);
+  }
+
+  VerticaCopySink(Connection connection, @Nullable Reconnector reconnector) {
+    this.connection = connection;
+    this.reconnector = reconnector;
+  }
+
+  @Override
+  public Session start(String copyStatement) throws SQLException {
+    VerticaCopyStream stream = new VerticaCopyStream((VerticaConnection) connection, copyStatement);
+    // start() starts the stream process, and opens the COPY command.
+    stream.start();
+    return new Session() {
+      @Override
+      public void addStream(InputStream inputStream) throws SQLException {
+        stream.addStream(inputStream);
+      }
+
+      @Override
+      public void execute() throws SQLException {
+        stream.execute();
+      }
+
+      @Override
+      public List<Long> getRejects() throws SQLException {
+        return stream.getRejects();
+      }
+
+      @Override
+      public long finish() throws SQLException {
+        // Finish closes the COPY command. It returns the number of rows inserted.
+        return stream.finish();
+      }
+    };
+  }
+
+  @Override
+  public void commit() throws SQLException {
+    connection.commit();
+    // Committing releases the savepoints
+    savepoint = null;
+  }
+
+  @Override
+  public void savepoint() throws SQLException {
+    if (savepoint != null) {
+      connection.releaseSavepoint(savepoint);
+    }
+    savepoint = connection.setSavepoint();
+  }
+
+  @Override
+  public void rollbackToSavepoint() throws SQLException {
+    if (savepoint == null) {
+      throw new SQLException("There is no savepoint to roll back to.");
+    }
+    connection.rollback(savepoint);
+  }
+
+  @Override
+  public void reset() throws SQLException {
+    savepoint = null;
+    if (connection.isValid(VALID_TIMEOUT_SECONDS)) {
+      connection.rollback();
+      return;
+    }
+    if (reconnector == null) {
+      throw new SQLRecoverableException("The connection to Vertica was lost.");
+    }
+    connection = reconnector.reconnect(connection);
+  }
+
+  @Override
+  public Connection getConnection() {
+    return connection;
+  }
+
+  /**
+   * Opens the connection replacing a lost one.
+   */
+  interface Reconnector {
+    Connection reconnect(Connection lost) throws SQLException;
+  }
+}
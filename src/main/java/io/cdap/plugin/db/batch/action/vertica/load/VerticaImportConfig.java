@@ -21,7 +21,12 @@ import io.cdap.cdap.api.annotation.Macro;
 import io.cdap.cdap.api.annotation.Name;
 import io.cdap.cdap.api.plugin.PluginConfig;
 import io.cdap.cdap.etl.api.FailureCollector;
+import org.apache.hadoop.fs.GlobPattern;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
 import javax.annotation.Nullable;
 
 /**
@@ -37,8 +42,76 @@ public class VerticaImportConfig extends PluginConfig {
   public static final String TABLE = "tableName";
   public static final String DELIMITER = "delimiter";
   public static final String AUTO_COMMIT = "autoCommit";
+  public static final String PARALLELISM = "parallelism";
+  public static final String SPLIT_SIZE = "splitSize";
+  public static final String BATCH_MAX_FILES = "batchMaxFiles";
+  public static final String BATCH_MAX_BYTES = "batchMaxBytes";
+  public static final String READ_AHEAD_BUFFERS = "readAheadBuffers";
+  public static final String READ_AHEAD_BUFFER_SIZE = "readAheadBufferSize";
+  public static final String LOAD_MODE = "loadMode";
+  public static final String RECURSIVE = "recursive";
+  public static final String INCLUDE_FILES = "includeFiles";
+  public static final String EXCLUDE_FILES = "excludeFiles";
+  public static final String SKIP_HIDDEN_FILES = "skipHiddenFiles";
+  public static final String MANIFEST_TABLE = "manifestTable";
+  public static final String REJECTS_PATH = "rejectsPath";
+  public static final String MAX_REJECTS = "maxRejects";
+  public static final String MAX_REJECT_PERCENT = "maxRejectPercent";
+  public static final String COMMIT_BYTES = "commitBytes";
+  public static final String COMMIT_ROWS = "commitRows";
+  public static final String COMMIT_INTERVAL_SECONDS = "commitIntervalSeconds";
+  public static final String PUBLISH_MODE = "publishMode";
+  public static final String STAGING_TABLE = "stagingTable";
+  public static final String MERGE_KEYS = "mergeKeys";
+  public static final String PARTITION_COLUMNS = "partitionColumns";
+  public static final String TABLE_MAPPINGS = "tableMappings";
+  public static final String LOAD_BALANCING = "loadBalancing";
+  public static final String THROTTLE_BYTES_PER_SECOND = "throttleBytesPerSecond";
+  public static final String MAX_CONCURRENT_STREAMS = "maxConcurrentStreams";
+  public static final String ADAPTIVE_THROTTLE = "adaptiveThrottle";
+  public static final String THROTTLE_RESOURCE_POOL = "throttleResourcePool";
+  public static final String PREFLIGHT_SAMPLE_FILES = "preflightSampleFiles";
+  public static final String PREFLIGHT_SAMPLE_LINES = "preflightSampleLines";
+  public static final String COPY_COLUMNS = "copyColumns";
+  public static final String ENCLOSED_BY = "enclosedBy";
+  public static final String NULL_AS = "nullAs";
+  public static final String NO_ESCAPE = "noEscape";
+  public static final String REJECT_MAX = "rejectMax";
+  public static final String ABORT_ON_ERROR = "abortOnError";
+  public static final String LOAD_METHOD = "loadMethod";
+  public static final String DIRECT_THRESHOLD_BYTES = "directThresholdBytes";
+  public static final String FORMAT = "format";
+  public static final String MAX_RETRIES = "maxRetries";
+  public static final String RETRY_BACKOFF_MILLIS = "retryBackoffMillis";
+  public static final String RETRY_MAX_BACKOFF_MILLIS = "retryMaxBackoffMillis";
+
+  public static final String LOAD_MODE_STREAM = "Stream";
+  public static final String LOAD_MODE_SERVER = "Server";
+  public static final String PUBLISH_MODE_DIRECT = "Direct";
+  public static final String PUBLISH_MODE_INSERT = "Insert";
+  public static final String PUBLISH_MODE_SWAP = "Swap Partitions";
+  public static final String PUBLISH_MODE_MERGE = "Merge";
+  public static final String LOAD_BALANCING_NONE = "None";
+  public static final String LOAD_BALANCING_NATIVE = "Native";
+  public static final String LOAD_BALANCING_NODES = "Nodes";
+  public static final String LOAD_METHOD_AUTOMATIC = "Automatic";
+  public static final String LOAD_METHOD_AUTO = "Auto";
+  public static final String LOAD_METHOD_DIRECT = "Direct";
+  public static final String LOAD_METHOD_TRICKLE = "Trickle";
+  public static final String FORMAT_DELIMITED = "Delimited";
+  public static final String FORMAT_PARQUET = "Parquet";
+  public static final String FORMAT_ORC = "ORC";
+  public static final String FORMAT_AVRO = "Avro";
 
   private static final String CONNECTION_STRING_PREFIX = "jdbc:vertica://";
+  private static final int DEFAULT_PARALLELISM = 1;
+  private static final int DEFAULT_PREFLIGHT_SAMPLE_LINES = 100;
+  private static final int DEFAULT_BATCH_MAX_FILES = 1;
+  private static final int DEFAULT_READ_AHEAD_BUFFER_SIZE = 1024 * 1024;
+  // Vertica recommends DIRECT for loads of 100 MB or more
+  private static final long DEFAULT_DIRECT_THRESHOLD_BYTES = 100L * 1024 * 1024;
+  private static final long DEFAULT_RETRY_BACKOFF_MILLIS = 1000;
+  private static final long DEFAULT_RETRY_MAX_BACKOFF_MILLIS = 60000;
 
   @Name(CONNECTION_STRING)
   @Description("JDBC connection string including database name.")
@@ -60,8 +133,8 @@ public class VerticaImportConfig extends PluginConfig {
   private String password;
 
   @Name(LEVEL)
-  @Description("Copy statement query level. Basic automatically creates copy statement with tableName and delimiter. " +
-    "To use more options please choose Advanced option.")
+  @Description("Copy statement query level. Basic automatically creates copy statement with tableName, delimiter " +
+    "and the other copy options of the plugin. To use more options please choose Advanced option.")
   @Macro
   private String level;
 
@@ -71,6 +144,13 @@ public class VerticaImportConfig extends PluginConfig {
   @Macro
   private String tableName;
 
+  @Name(FORMAT)
+  @Description("Format of the input files: 'Delimited', 'Parquet', 'ORC' or 'Avro'. Parquet and ORC files are read " +
+    "by the Vertica nodes. Only works with the Basic level. Defaults to 'Delimited'.")
+  @Nullable
+  @Macro
+  private String format;
+
   @Name(DELIMITER)
   @Description("Delimiter in input files. Each delimited values will become columns in specified vertica table")
   @Nullable
@@ -95,6 +175,301 @@ public class VerticaImportConfig extends PluginConfig {
     " applied for every file.")
   private String autoCommit;
 
+  @Name(PARALLELISM)
+  @Description("Number of files to load concurrently. Each concurrent load uses its own connection and COPY stream. " +
+    "Defaults to 1.")
+  @Nullable
+  @Macro
+  private Integer parallelism;
+
+  @Name(SPLIT_SIZE)
+  @Description("Size in bytes above which a file is split into ranges of this size that are loaded concurrently. " +
+    "Only for files whose records do not contain newlines. Splitting is disabled if not specified.")
+  @Nullable
+  @Macro
+  private Long splitSize;
+
+  @Name(BATCH_MAX_FILES)
+  @Description("Maximum number of files loaded by a single execution of the COPY stream. Batching many small files " +
+    "saves a round trip to Vertica per file. Files of a batch are opened one at a time. Defaults to 1.")
+  @Nullable
+  @Macro
+  private Integer batchMaxFiles;
+
+  @Name(BATCH_MAX_BYTES)
+  @Description("Maximum number of bytes loaded by a single execution of the COPY stream. No more files are added to " +
+    "a batch once it would grow above this size. Not limited if not specified.")
+  @Nullable
+  @Macro
+  private Long batchMaxBytes;
+
+  @Name(READ_AHEAD_BUFFERS)
+  @Description("Number of buffers each load uses to read files ahead of the COPY stream on a background thread, so " +
+    "that file system read stalls do not stall Vertica. Read-ahead is disabled if not specified.")
+  @Nullable
+  @Macro
+  private Integer readAheadBuffers;
+
+  @Name(READ_AHEAD_BUFFER_SIZE)
+  @Description("Size in bytes of each read-ahead buffer. Defaults to 1048576 (1 MB).")
+  @Nullable
+  @Macro
+  private Integer readAheadBufferSize;
+
+  @Name(LOAD_MODE)
+  @Description("How files reach Vertica. 'Stream' streams the files from this action to Vertica over the JDBC " +
+    "connection using COPY FROM STDIN. 'Server' has the Vertica nodes read the files from the file system themselves " +
+    "with COPY FROM 'url', which requires Vertica to be able to access the file system. Defaults to 'Stream'.")
+  @Nullable
+  @Macro
+  private String loadMode;
+
+  @Name(RECURSIVE)
+  @Description("Whether to also load the files in the subdirectories of the file path, such as partition " +
+    "directories. Defaults to false.")
+  @Nullable
+  private String recursive;
+
+  @Name(INCLUDE_FILES)
+  @Description("Glob pattern of the files to load, such as '*.csv'. Patterns containing a '/' are matched against " +
+    "the path relative to the file path, such as 'dt=2020-*/part-*', other patterns against the file name. " +
+    "All files are loaded if not specified.")
+  @Nullable
+  @Macro
+  private String includeFiles;
+
+  @Name(EXCLUDE_FILES)
+  @Description("Glob pattern of the files not to load, matched like the include pattern.")
+  @Nullable
+  @Macro
+  private String excludeFiles;
+
+  @Name(SKIP_HIDDEN_FILES)
+  @Description("Whether to skip the hidden files and directories, whose names start with '_' or '.', and the '.crc' " +
+    "checksum files, such as the '_SUCCESS' and '_temporary' markers of Hadoop jobs. Defaults to true.")
+  @Nullable
+  private String skipHiddenFiles;
+
+  @Name(MANIFEST_TABLE)
+  @Description("Name of a Vertica table recording the files already loaded, which is created if it does not exist. " +
+    "Files are recorded in the same transaction as their data, and files recorded with the same length and " +
+    "modification time are skipped, so that reruns only load new or changed files. Every file is loaded if not " +
+    "specified.")
+  @Nullable
+  @Macro
+  private String manifestTable;
+
+  @Name(REJECTS_PATH)
+  @Description("Directory to write the lines rejected by Vertica to. The rejected lines of each file are written to " +
+    "a file with the same path under this directory, with a '.rejected' suffix. Rejected lines are not written if " +
+    "not specified.")
+  @Nullable
+  @Macro
+  private String rejectsPath;
+
+  @Name(MAX_REJECTS)
+  @Description("Maximum number of rejected rows. The load is aborted and rolled back as soon as more rows are " +
+    "rejected. Not limited if not specified.")
+  @Nullable
+  @Macro
+  private Long maxRejects;
+
+  @Name(MAX_REJECT_PERCENT)
+  @Description("Maximum percentage of rejected rows, between 0 and 100. The load is aborted and rolled back as soon " +
+    "as a larger share of the rows loaded so far is rejected, once at least 1000 rows were loaded. Only rows sent " +
+    "uncompressed are counted. Not limited if not specified.")
+  @Nullable
+  @Macro
+  private Double maxRejectPercent;
+
+  @Name(COMMIT_BYTES)
+  @Description("Commit the loaded data once at least this many bytes were loaded since the last commit, instead of " +
+    "only at the end of the load. Can be combined with the other commit options, the first one reached triggers " +
+    "the commit. Cannot be used with auto commit.")
+  @Nullable
+  @Macro
+  private Long commitBytes;
+
+  @Name(COMMIT_ROWS)
+  @Description("Commit the loaded data once at least this many rows were loaded since the last commit. Only rows " +
+    "sent uncompressed are counted. Cannot be used with auto commit.")
+  @Nullable
+  @Macro
+  private Long commitRows;
+
+  @Name(COMMIT_INTERVAL_SECONDS)
+  @Description("Commit the loaded data once this many seconds passed since the last commit. Cannot be used with " +
+    "auto commit.")
+  @Nullable
+  @Macro
+  private Long commitIntervalSeconds;
+
+  @Name(PUBLISH_MODE)
+  @Description("How the loaded rows reach the table. 'Direct' loads the files into the table. 'Insert', " +
+    "'Swap Partitions' and 'Merge' load them into a staging table, and publish the staged rows to the table in one " +
+    "transaction once every file is loaded. Defaults to 'Direct'.")
+  @Nullable
+  @Macro
+  private String publishMode;
+
+  @Name(STAGING_TABLE)
+  @Description("Name of the staging table, which is replaced if it exists. Runs given the same name share the " +
+    "staging table, so they must not overlap. Defaults to the table name with a '_staging_' suffix followed by an id " +
+    "unique to the run.")
+  @Nullable
+  @Macro
+  private String stagingTable;
+
+  @Name(MERGE_KEYS)
+  @Description("Comma separated list of the columns identifying a row of the table, such as 'id' or " +
+    "'customer_id,order_id'. Required with the 'Merge' publish mode. The staged rows must be unique on these " +
+    "columns.")
+  @Nullable
+  @Macro
+  private String mergeKeys;
+
+  @Name(PARTITION_COLUMNS)
+  @Description("Comma separated list of the columns of Hive style partition directories, such as 'dt' for files " +
+    "under 'path/dt=2026-10-17/'. The partition columns are set from the directory names.")
+  @Nullable
+  @Macro
+  private String partitionColumns;
+
+  @Name(TABLE_MAPPINGS)
+  @Description("Loads the files under the path into several tables, as a list of 'pattern:target' mappings " +
+    "separated by ';', where the target is a table name or a COPY statement. Files matching no mapping are skipped.")
+  @Nullable
+  @Macro
+  private String tableMappings;
+
+  @Name(LOAD_BALANCING)
+  @Description("How the connections of the parallel COPY streams are spread over the nodes of the cluster: " +
+    "'None', 'Native' for Vertica connection load balancing, or 'Nodes' to connect to each node in turn. Defaults " +
+    "to 'None'.")
+  @Nullable
+  @Macro
+  private String loadBalancing;
+
+  @Name(THROTTLE_BYTES_PER_SECOND)
+  @Description("Maximum number of bytes per second sent to Vertica by all the COPY streams together, to leave " +
+    "resources to the other users of the cluster. Not limited if not specified.")
+  @Nullable
+  @Macro
+  private Long throttleBytesPerSecond;
+
+  @Name(MAX_CONCURRENT_STREAMS)
+  @Description("Maximum number of COPY streams open at the same time. Defaults to the parallelism.")
+  @Nullable
+  @Macro
+  private Integer maxConcurrentStreams;
+
+  @Name(ADAPTIVE_THROTTLE)
+  @Description("Whether to lower the bytes per second and concurrent streams while the cluster is congested, that " +
+    "is while its resource queues grow or throughput drops, and to raise them back gradually up to " +
+    "their maximum once it recovers. Defaults to 'false'.")
+  @Nullable
+  @Macro
+  private String adaptiveThrottle;
+
+  @Name(THROTTLE_RESOURCE_POOL)
+  @Description("Resource pool whose queue is watched by adaptive throttling. All the resource pools are watched if " +
+    "not specified.")
+  @Nullable
+  @Macro
+  private String throttleResourcePool;
+
+  @Name(PREFLIGHT_SAMPLE_FILES)
+  @Description("Number of files whose first lines are checked against the columns of the table before loading. " +
+    "Files are not checked if not specified.")
+  @Nullable
+  @Macro
+  private Integer preflightSampleFiles;
+
+  @Name(PREFLIGHT_SAMPLE_LINES)
+  @Description("Number of lines checked from the start of each sampled file. Defaults to 100.")
+  @Nullable
+  @Macro
+  private Integer preflightSampleLines;
+
+  @Name(COPY_COLUMNS)
+  @Description("Comma separated list of the columns read from the files, in the order of the fields, when the files " +
+    "do not have a field for every column of the table. Columns not listed get their default value. Only works with " +
+    "the Basic level. All the columns of the table are read if not specified.")
+  @Nullable
+  @Macro
+  private String copyColumns;
+
+  @Name(ENCLOSED_BY)
+  @Description("Character enclosing the fields that contain the delimiter, such as '\"'. Only works with the Basic " +
+    "level. Fields are not enclosed if not specified.")
+  @Nullable
+  @Macro
+  private String enclosedBy;
+
+  @Name(NULL_AS)
+  @Description("String of the fields that are loaded as NULL, such as '\\N'. Only works with the Basic level. " +
+    "Empty fields are loaded as NULL if not specified.")
+  @Nullable
+  @Macro
+  private String nullAs;
+
+  @Name(NO_ESCAPE)
+  @Description("Whether backslashes are loaded as they are, instead of escaping the next character. Only works with " +
+    "the Basic level. Defaults to 'false'.")
+  @Nullable
+  @Macro
+  private String noEscape;
+
+  @Name(REJECT_MAX)
+  @Description("Maximum number of rows a COPY statement rejects before Vertica fails it, with REJECTMAX. Only works " +
+    "with the Basic level. Not limited if not specified.")
+  @Nullable
+  @Macro
+  private Long rejectMax;
+
+  @Name(ABORT_ON_ERROR)
+  @Description("Whether Vertica fails a COPY statement as soon as a row is rejected, with ABORT ON ERROR. Only works " +
+    "with the Basic level. Defaults to 'false'.")
+  @Nullable
+  @Macro
+  private String abortOnError;
+
+  @Name(LOAD_METHOD)
+  @Description("How the COPY statements write the loaded rows. 'Automatic' uses DIRECT once the listed files reach " +
+    "the direct threshold, so that large loads are written straight to ROS containers, and leaves smaller loads to " +
+    "the AUTO default. 'Auto', 'Direct' and 'Trickle' always use that method. Only works with the Basic level. " +
+    "Defaults to 'Automatic'.")
+  @Nullable
+  @Macro
+  private String loadMethod;
+
+  @Name(DIRECT_THRESHOLD_BYTES)
+  @Description("Number of listed bytes from which the 'Automatic' load method uses DIRECT. Defaults to 104857600 " +
+    "(100 MB).")
+  @Nullable
+  @Macro
+  private Long directThresholdBytes;
+
+  @Name(MAX_RETRIES)
+  @Description("Maximum number of times a batch is loaded again after a transient failure, such as a lost " +
+    "connection. Only works with the Stream load mode. Failed batches are not retried if not specified.")
+  @Nullable
+  @Macro
+  private Integer maxRetries;
+
+  @Name(RETRY_BACKOFF_MILLIS)
+  @Description("Milliseconds to wait before the first retry of a batch, doubled for each following retry. Each wait " +
+    "is randomly shortened by up to half. Defaults to 1000.")
+  @Nullable
+  @Macro
+  private Long retryBackoffMillis;
+
+  @Name(RETRY_MAX_BACKOFF_MILLIS)
+  @Description("Maximum number of milliseconds to wait before a retry. Defaults to 60000.")
+  @Nullable
+  @Macro
+  private Long retryMaxBackoffMillis;
+
   public VerticaImportConfig(String connectionString, String user, String password, String level, String tableName,
                              String delimiter, String copyStatement, String path, String autoCommit) {
     this.connectionString = connectionString;
@@ -118,6 +493,48 @@ public class VerticaImportConfig extends PluginConfig {
     copyStatement = builder.copyStatement;
     path = builder.path;
     autoCommit = builder.autoCommit;
+    parallelism = builder.parallelism;
+    splitSize = builder.splitSize;
+    batchMaxFiles = builder.batchMaxFiles;
+    batchMaxBytes = builder.batchMaxBytes;
+    readAheadBuffers = builder.readAheadBuffers;
+    readAheadBufferSize = builder.readAheadBufferSize;
+    loadMode = builder.loadMode;
+    recursive = builder.recursive;
+    includeFiles = builder.includeFiles;
+    excludeFiles = builder.excludeFiles;
+    skipHiddenFiles = builder.skipHiddenFiles;
+    manifestTable = builder.manifestTable;
+    rejectsPath = builder.rejectsPath;
+    maxRejects = builder.maxRejects;
+    maxRejectPercent = builder.maxRejectPercent;
+    commitBytes = builder.commitBytes;
+    commitRows = builder.commitRows;
+    commitIntervalSeconds = builder.commitIntervalSeconds;
+    publishMode = builder.publishMode;
+    stagingTable = builder.stagingTable;
+    mergeKeys = builder.mergeKeys;
+    partitionColumns = builder.partitionColumns;
+    tableMappings = builder.tableMappings;
+    loadBalancing = builder.loadBalancing;
+    throttleBytesPerSecond = builder.throttleBytesPerSecond;
+    maxConcurrentStreams = builder.maxConcurrentStreams;
+    adaptiveThrottle = builder.adaptiveThrottle;
+    throttleResourcePool = builder.throttleResourcePool;
+    preflightSampleFiles = builder.preflightSampleFiles;
+    preflightSampleLines = builder.preflightSampleLines;
+    copyColumns = builder.copyColumns;
+    enclosedBy = builder.enclosedBy;
+    nullAs = builder.nullAs;
+    noEscape = builder.noEscape;
+    rejectMax = builder.rejectMax;
+    abortOnError = builder.abortOnError;
+    loadMethod = builder.loadMethod;
+    directThresholdBytes = builder.directThresholdBytes;
+    format = builder.format;
+    maxRetries = builder.maxRetries;
+    retryBackoffMillis = builder.retryBackoffMillis;
+    retryMaxBackoffMillis = builder.retryMaxBackoffMillis;
   }
 
   public static Builder builder() {
@@ -134,7 +551,49 @@ public class VerticaImportConfig extends PluginConfig {
       .setDelimiter(copy.delimiter)
       .setCopyStatement(copy.copyStatement)
       .setPath(copy.path)
-      .setAutoCommit(copy.autoCommit);
+      .setAutoCommit(copy.autoCommit)
+      .setParallelism(copy.parallelism)
+      .setSplitSize(copy.splitSize)
+      .setBatchMaxFiles(copy.batchMaxFiles)
+      .setBatchMaxBytes(copy.batchMaxBytes)
+      .setReadAheadBuffers(copy.readAheadBuffers)
+      .setReadAheadBufferSize(copy.readAheadBufferSize)
+      .setLoadMode(copy.loadMode)
+      .setRecursive(copy.recursive)
+      .setIncludeFiles(copy.includeFiles)
+      .setExcludeFiles(copy.excludeFiles)
+      .setSkipHiddenFiles(copy.skipHiddenFiles)
+      .setManifestTable(copy.manifestTable)
+      .setRejectsPath(copy.rejectsPath)
+      .setMaxRejects(copy.maxRejects)
+      .setMaxRejectPercent(copy.maxRejectPercent)
+      .setCommitBytes(copy.commitBytes)
+      .setCommitRows(copy.commitRows)
+      .setCommitIntervalSeconds(copy.commitIntervalSeconds)
+      .setPublishMode(copy.publishMode)
+      .setStagingTable(copy.stagingTable)
+      .setMergeKeys(copy.mergeKeys)
+      .setPartitionColumns(copy.partitionColumns)
+      .setTableMappings(copy.tableMappings)
+      .setLoadBalancing(copy.loadBalancing)
+      .setThrottleBytesPerSecond(copy.throttleBytesPerSecond)
+      .setMaxConcurrentStreams(copy.maxConcurrentStreams)
+      .setAdaptiveThrottle(copy.adaptiveThrottle)
+      .setThrottleResourcePool(copy.throttleResourcePool)
+      .setPreflightSampleFiles(copy.preflightSampleFiles)
+      .setPreflightSampleLines(copy.preflightSampleLines)
+      .setCopyColumns(copy.copyColumns)
+      .setEnclosedBy(copy.enclosedBy)
+      .setNullAs(copy.nullAs)
+      .setNoEscape(copy.noEscape)
+      .setRejectMax(copy.rejectMax)
+      .setAbortOnError(copy.abortOnError)
+      .setLoadMethod(copy.loadMethod)
+      .setDirectThresholdBytes(copy.directThresholdBytes)
+      .setFormat(copy.format)
+      .setMaxRetries(copy.maxRetries)
+      .setRetryBackoffMillis(copy.retryBackoffMillis)
+      .setRetryMaxBackoffMillis(copy.retryMaxBackoffMillis);
   }
 
   public String getConnectionString() {
@@ -178,6 +637,285 @@ public class VerticaImportConfig extends PluginConfig {
     return autoCommit;
   }
 
+  public int getParallelism() {
+    return parallelism == null ? DEFAULT_PARALLELISM : parallelism;
+  }
+
+  /**
+   * Returns the split size in bytes, or {@code 0} if files should not be split.
+   */
+  public long getSplitSize() {
+    return splitSize == null ? 0 : splitSize;
+  }
+
+  public int getBatchMaxFiles() {
+    return batchMaxFiles == null ? DEFAULT_BATCH_MAX_FILES : batchMaxFiles;
+  }
+
+  /**
+   * Returns the maximum number of bytes per batch, or {@code 0} if batches are not limited by size.
+   */
+  public long getBatchMaxBytes() {
+    return batchMaxBytes == null ? 0 : batchMaxBytes;
+  }
+
+  /**
+   * Returns the number of read-ahead buffers per load, or {@code 0} if read-ahead is disabled.
+   */
+  public int getReadAheadBuffers() {
+    return readAheadBuffers == null ? 0 : readAheadBuffers;
+  }
+
+  public int getReadAheadBufferSize() {
+    return readAheadBufferSize == null ? DEFAULT_READ_AHEAD_BUFFER_SIZE : readAheadBufferSize;
+  }
+
+  public String getLoadMode() {
+    return Strings.isNullOrEmpty(loadMode) ? LOAD_MODE_STREAM : loadMode;
+  }
+
+  /**
+   * Returns whether the Vertica nodes read the files themselves instead of receiving them over COPY FROM STDIN.
+   */
+  public boolean isServerSideLoad() {
+    return getLoadMode().equalsIgnoreCase(LOAD_MODE_SERVER);
+  }
+
+  public boolean isRecursive() {
+    return "true".equalsIgnoreCase(recursive);
+  }
+
+  @Nullable
+  public String getIncludeFiles() {
+    return includeFiles;
+  }
+
+  @Nullable
+  public String getExcludeFiles() {
+    return excludeFiles;
+  }
+
+  public boolean isSkipHiddenFiles() {
+    return !"false".equalsIgnoreCase(skipHiddenFiles);
+  }
+
+  @Nullable
+  public String getManifestTable() {
+    return manifestTable;
+  }
+
+  @Nullable
+  public String getRejectsPath() {
+    return rejectsPath;
+  }
+
+  @Nullable
+  public Long getMaxRejects() {
+    return maxRejects;
+  }
+
+  @Nullable
+  public Double getMaxRejectPercent() {
+    return maxRejectPercent;
+  }
+
+  public long getCommitBytes() {
+    return commitBytes == null ? 0 : commitBytes;
+  }
+
+  public long getCommitRows() {
+    return commitRows == null ? 0 : commitRows;
+  }
+
+  public long getCommitIntervalSeconds() {
+    return commitIntervalSeconds == null ? 0 : commitIntervalSeconds;
+  }
+
+  public String getPublishMode() {
+    return Strings.isNullOrEmpty(publishMode) ? PUBLISH_MODE_DIRECT : publishMode;
+  }
+
+  /**
+   * Returns whether the files are loaded into a staging table that is published to the table at the end of the load.
+   */
+  public boolean isStaged() {
+    return !getPublishMode().equalsIgnoreCase(PUBLISH_MODE_DIRECT);
+  }
+
+  public boolean isSwapPartitions() {
+    return getPublishMode().equalsIgnoreCase(PUBLISH_MODE_SWAP);
+  }
+
+  public boolean isMerge() {
+    return getPublishMode().equalsIgnoreCase(PUBLISH_MODE_MERGE);
+  }
+
+  /**
+   * Returns the merge key columns, in the configured order.
+   */
+  public List<String> getMergeKeys() {
+    return splitColumns(mergeKeys);
+  }
+
+  /**
+   * Returns the columns of the Hive style partition directories, in the configured order.
+   */
+  public List<String> getPartitionColumns() {
+    return splitColumns(partitionColumns);
+  }
+
+  public boolean isPartitioned() {
+    return !getPartitionColumns().isEmpty();
+  }
+
+  /**
+   * Returns the mappings of files to tables, or an empty list if the files are loaded into a single table.
+   *
+   * @throws IllegalArgumentException if the mappings are invalid
+   */
+  public List<TableMapping> getTableMappings() {
+    return Strings.isNullOrEmpty(tableMappings) ? Collections.emptyList() :
+      TableMapping.parse(tableMappings, CopyStatement.builder(this).build());
+  }
+
+  public boolean isMultiTable() {
+    return !Strings.isNullOrEmpty(tableMappings);
+  }
+
+  public String getLoadBalancing() {
+    return Strings.isNullOrEmpty(loadBalancing) ? LOAD_BALANCING_NONE : loadBalancing;
+  }
+
+  public long getThrottleBytesPerSecond() {
+    return throttleBytesPerSecond == null ? 0 : throttleBytesPerSecond;
+  }
+
+  public int getMaxConcurrentStreams() {
+    return maxConcurrentStreams == null ? getParallelism() : maxConcurrentStreams;
+  }
+
+  public boolean isAdaptiveThrottle() {
+    return "true".equalsIgnoreCase(adaptiveThrottle);
+  }
+
+  /**
+   * Returns whether the COPY streams are throttled.
+   */
+  public boolean isThrottled() {
+    return throttleBytesPerSecond != null || getMaxConcurrentStreams() < getParallelism() || isAdaptiveThrottle();
+  }
+
+  @Nullable
+  public String getThrottleResourcePool() {
+    return throttleResourcePool;
+  }
+
+  public int getPreflightSampleFiles() {
+    return preflightSampleFiles == null ? 0 : preflightSampleFiles;
+  }
+
+  public int getPreflightSampleLines() {
+    return preflightSampleLines == null ? DEFAULT_PREFLIGHT_SAMPLE_LINES : preflightSampleLines;
+  }
+
+  /**
+   * Returns the columns read from the files, in the order of their fields, or an empty list if the files have a field
+   * for every column of the table.
+   */
+  public List<String> getCopyColumns() {
+    return splitColumns(copyColumns);
+  }
+
+  @Nullable
+  public String getEnclosedBy() {
+    return enclosedBy;
+  }
+
+  @Nullable
+  public String getNullAs() {
+    return nullAs;
+  }
+
+  public boolean isNoEscape() {
+    return "true".equalsIgnoreCase(noEscape);
+  }
+
+  @Nullable
+  public Long getRejectMax() {
+    return rejectMax;
+  }
+
+  public boolean isAbortOnError() {
+    return "true".equalsIgnoreCase(abortOnError);
+  }
+
+  public String getLoadMethod() {
+    return Strings.isNullOrEmpty(loadMethod) ? LOAD_METHOD_AUTOMATIC : loadMethod;
+  }
+
+  /**
+   * Returns whether the load method is chosen from the number of bytes to load.
+   */
+  public boolean isAutomaticLoadMethod() {
+    return getLoadMethod().equalsIgnoreCase(LOAD_METHOD_AUTOMATIC);
+  }
+
+  /**
+   * Returns the load method of every statement, or {@code null} if it is chosen from the number of bytes to load or
+   * is not valid.
+   */
+  @Nullable
+  CopyStatement.LoadMethod getFixedLoadMethod() {
+    for (CopyStatement.LoadMethod method : CopyStatement.LoadMethod.values()) {
+      if (method.name().equalsIgnoreCase(getLoadMethod())) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  public long getDirectThresholdBytes() {
+    return directThresholdBytes == null ? DEFAULT_DIRECT_THRESHOLD_BYTES : directThresholdBytes;
+  }
+
+  public String getFormat() {
+    return Strings.isNullOrEmpty(format) ? FORMAT_DELIMITED : format;
+  }
+
+  /**
+   * Returns whether the files are delimited text, parsed with the delimiter and the other parsing options.
+   */
+  public boolean isDelimited() {
+    return getFormat().equalsIgnoreCase(FORMAT_DELIMITED);
+  }
+
+  public int getMaxRetries() {
+    return maxRetries == null ? 0 : maxRetries;
+  }
+
+  public long getRetryBackoffMillis() {
+    return retryBackoffMillis == null ? DEFAULT_RETRY_BACKOFF_MILLIS : retryBackoffMillis;
+  }
+
+  public long getRetryMaxBackoffMillis() {
+    return retryMaxBackoffMillis == null ? DEFAULT_RETRY_MAX_BACKOFF_MILLIS : retryMaxBackoffMillis;
+  }
+
+  /**
+   * Returns the name of the staging table, or {@code null} if each run has a staging table of its own.
+   */
+  @Nullable
+  public String getStagingTable() {
+    return Strings.isNullOrEmpty(stagingTable) ? null : stagingTable;
+  }
+
+  /**
+   * Returns whether a commit cadence is configured, so that data is committed periodically during the load.
+   */
+  public boolean hasCommitCadence() {
+    return commitBytes != null || commitRows != null || commitIntervalSeconds != null;
+  }
+
   public void validate(FailureCollector failureCollector) {
     if(!containsMacro(CONNECTION_STRING)) {
       if (Strings.isNullOrEmpty(connectionString)) {
@@ -207,21 +945,21 @@ public class VerticaImportConfig extends PluginConfig {
     }
     if (!containsMacro(LEVEL)) {
       if (!containsMacro(TABLE) && level.equalsIgnoreCase("basic")) {
-        if (Strings.isNullOrEmpty(tableName)) {
+        if (Strings.isNullOrEmpty(tableName) && !isMultiTable()) {
           failureCollector.addFailure(
             "Vertica Table name is not specified.",
             "Ensure vertica table name is specified for basic level.")
             .withConfigProperty(LEVEL).withConfigProperty(TABLE);
         }
 
-        if (!containsMacro(DELIMITER) && Strings.isNullOrEmpty(delimiter)) {
+        if (!containsMacro(DELIMITER) && Strings.isNullOrEmpty(delimiter) && !containsMacro(FORMAT) && isDelimited()) {
           failureCollector.addFailure(
             "Delimiter for the input file is not specified.",
             "Ensure delimiter is provided for basic level.")
             .withConfigProperty(LEVEL).withConfigProperty(DELIMITER);
         }
       } else {
-        if (!containsMacro(COPY_STATEMENT) && Strings.isNullOrEmpty(copyStatement)) {
+        if (!containsMacro(COPY_STATEMENT) && Strings.isNullOrEmpty(copyStatement) && !isMultiTable()) {
           failureCollector.addFailure(
             "Copy Statement is not specified.",
             "Ensure a valid copy statement is provided for advanced level.")
@@ -229,6 +967,419 @@ public class VerticaImportConfig extends PluginConfig {
         }
       }
     }
+    if (!containsMacro(PARALLELISM) && parallelism != null && parallelism < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid parallelism '%d'.", parallelism),
+        "Ensure parallelism is at least 1.")
+        .withConfigProperty(PARALLELISM);
+    }
+    if (!containsMacro(SPLIT_SIZE) && splitSize != null && splitSize < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid split size '%d'.", splitSize),
+        "Ensure split size is a positive number of bytes.")
+        .withConfigProperty(SPLIT_SIZE);
+    }
+    if (!containsMacro(BATCH_MAX_FILES) && batchMaxFiles != null && batchMaxFiles < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid maximum number of files per batch '%d'.", batchMaxFiles),
+        "Ensure the maximum number of files per batch is at least 1.")
+        .withConfigProperty(BATCH_MAX_FILES);
+    }
+    if (!containsMacro(BATCH_MAX_BYTES) && batchMaxBytes != null && batchMaxBytes < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid maximum number of bytes per batch '%d'.", batchMaxBytes),
+        "Ensure the maximum number of bytes per batch is a positive number.")
+        .withConfigProperty(BATCH_MAX_BYTES);
+    }
+    if (!containsMacro(READ_AHEAD_BUFFERS) && readAheadBuffers != null && readAheadBuffers < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid number of read-ahead buffers '%d'.", readAheadBuffers),
+        "Ensure the number of read-ahead buffers is at least 1.")
+        .withConfigProperty(READ_AHEAD_BUFFERS);
+    }
+    if (!containsMacro(READ_AHEAD_BUFFER_SIZE) && readAheadBufferSize != null && readAheadBufferSize < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid read-ahead buffer size '%d'.", readAheadBufferSize),
+        "Ensure the read-ahead buffer size is a positive number of bytes.")
+        .withConfigProperty(READ_AHEAD_BUFFER_SIZE);
+    }
+    if (!containsMacro(MAX_REJECTS) && maxRejects != null && maxRejects < 0) {
+      failureCollector.addFailure(
+        String.format("Invalid maximum number of rejected rows '%d'.", maxRejects),
+        "Ensure the maximum number of rejected rows is not negative.")
+        .withConfigProperty(MAX_REJECTS);
+    }
+    if (!containsMacro(MAX_REJECT_PERCENT) && maxRejectPercent != null
+      && (maxRejectPercent < 0 || maxRejectPercent > 100)) {
+      failureCollector.addFailure(
+        String.format("Invalid maximum percentage of rejected rows '%s'.", maxRejectPercent),
+        "Ensure the maximum percentage of rejected rows is between 0 and 100.")
+        .withConfigProperty(MAX_REJECT_PERCENT);
+    }
+    validateCommitCadence(failureCollector, COMMIT_BYTES, commitBytes, "number of bytes");
+    validateCommitCadence(failureCollector, COMMIT_ROWS, commitRows, "number of rows");
+    validateCommitCadence(failureCollector, COMMIT_INTERVAL_SECONDS, commitIntervalSeconds, "interval");
+    if (!containsMacro(AUTO_COMMIT) && "true".equalsIgnoreCase(autoCommit) && hasCommitCadence()) {
+      failureCollector.addFailure(
+        "Commit cadence is set with auto commit enabled.",
+        "Ensure auto commit is disabled when committing every number of bytes, rows or seconds.")
+        .withConfigProperty(AUTO_COMMIT);
+    }
+    if (!containsMacro(INCLUDE_FILES)) {
+      validateGlob(failureCollector, INCLUDE_FILES, includeFiles);
+    }
+    if (!containsMacro(EXCLUDE_FILES)) {
+      validateGlob(failureCollector, EXCLUDE_FILES, excludeFiles);
+    }
+    if (!containsMacro(LOAD_MODE)) {
+      if (!getLoadMode().equalsIgnoreCase(LOAD_MODE_STREAM) && !isServerSideLoad()) {
+        failureCollector.addFailure(
+          String.format("Invalid load mode '%s'.", loadMode),
+          String.format("Ensure load mode is either '%s' or '%s'.", LOAD_MODE_STREAM, LOAD_MODE_SERVER))
+          .withConfigProperty(LOAD_MODE);
+      } else if (isServerSideLoad() && !containsMacro(LEVEL) && !level.equalsIgnoreCase("basic")
+        && !containsMacro(COPY_STATEMENT) && !Strings.isNullOrEmpty(copyStatement)
+        && copyStatement.toUpperCase().contains("STDIN")) {
+        failureCollector.addFailure(
+          "Copy statement reads from STDIN with the server load mode.",
+          "Ensure the copy statement names the files Vertica should read, such as COPY ... FROM 'hdfs:///path/*'.")
+          .withConfigProperty(LOAD_MODE).withConfigProperty(COPY_STATEMENT);
+      }
+      if (isServerSideLoad() && !containsMacro(LEVEL) && !level.equalsIgnoreCase("basic")
+        && !containsMacro(MANIFEST_TABLE) && !Strings.isNullOrEmpty(manifestTable)) {
+        failureCollector.addFailure(
+          "Manifest table cannot be used with an advanced copy statement in the server load mode.",
+          "Ensure the Basic level is used, or remove the manifest table.")
+          .withConfigProperty(LOAD_MODE).withConfigProperty(MANIFEST_TABLE);
+      }
+    }
+    if (!containsMacro(PUBLISH_MODE)) {
+      if (isStaged() && !getPublishMode().equalsIgnoreCase(PUBLISH_MODE_INSERT) && !isSwapPartitions()
+        && !isMerge()) {
+        failureCollector.addFailure(
+          String.format("Invalid publish mode '%s'.", publishMode),
+          String.format("Ensure publish mode is one of '%s', '%s', '%s' or '%s'.", PUBLISH_MODE_DIRECT,
+                        PUBLISH_MODE_INSERT, PUBLISH_MODE_SWAP, PUBLISH_MODE_MERGE))
+          .withConfigProperty(PUBLISH_MODE);
+      } else if (isStaged() && !containsMacro(LEVEL) && !level.equalsIgnoreCase("basic")) {
+        failureCollector.addFailure(
+          "Staging table cannot be used with an advanced copy statement.",
+          String.format("Ensure the Basic level is used, so that the files are copied into the staging table, or " +
+                          "set the publish mode to '%s'.", PUBLISH_MODE_DIRECT))
+          .withConfigProperty(PUBLISH_MODE).withConfigProperty(LEVEL);
+      }
+      if (isMerge() && !containsMacro(MERGE_KEYS) && getMergeKeys().isEmpty()) {
+        failureCollector.addFailure(
+          "Merge keys must be specified with the merge publish mode.",
+          "Ensure the columns identifying a row of the table are set as merge keys.")
+          .withConfigProperty(MERGE_KEYS);
+      }
+    }
+    if (!containsMacro(LOAD_BALANCING) && !getLoadBalancing().equalsIgnoreCase(LOAD_BALANCING_NONE)
+      && !getLoadBalancing().equalsIgnoreCase(LOAD_BALANCING_NATIVE)
+      && !getLoadBalancing().equalsIgnoreCase(LOAD_BALANCING_NODES)) {
+      failureCollector.addFailure(
+        String.format("Invalid load balancing '%s'.", loadBalancing),
+        String.format("Ensure load balancing is one of '%s', '%s' or '%s'.", LOAD_BALANCING_NONE,
+                      LOAD_BALANCING_NATIVE, LOAD_BALANCING_NODES))
+        .withConfigProperty(LOAD_BALANCING);
+    }
+    if (!containsMacro(THROTTLE_BYTES_PER_SECOND) && throttleBytesPerSecond != null && throttleBytesPerSecond < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid throttle bytes per second '%d'.", throttleBytesPerSecond),
+        "Ensure the throttle bytes per second is a positive number.")
+        .withConfigProperty(THROTTLE_BYTES_PER_SECOND);
+    }
+    if (!containsMacro(MAX_CONCURRENT_STREAMS) && maxConcurrentStreams != null && maxConcurrentStreams < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid max concurrent streams '%d'.", maxConcurrentStreams),
+        "Ensure max concurrent streams is at least 1.")
+        .withConfigProperty(MAX_CONCURRENT_STREAMS);
+    }
+    if (!containsMacro(PREFLIGHT_SAMPLE_FILES) && preflightSampleFiles != null && preflightSampleFiles < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid pre-flight sample files '%d'.", preflightSampleFiles),
+        "Ensure the number of pre-flight sample files is at least 1.")
+        .withConfigProperty(PREFLIGHT_SAMPLE_FILES);
+    }
+    if (!containsMacro(PREFLIGHT_SAMPLE_LINES) && preflightSampleLines != null && preflightSampleLines < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid pre-flight sample lines '%d'.", preflightSampleLines),
+        "Ensure the number of pre-flight sample lines is at least 1.")
+        .withConfigProperty(PREFLIGHT_SAMPLE_LINES);
+    }
+    validateCopyOptions(failureCollector);
+    if (!containsMacro(FORMAT)) {
+      validateFormat(failureCollector);
+    }
+    if (isThrottled() && !containsMacro(LOAD_MODE) && isServerSideLoad()) {
+      failureCollector.addFailure(
+        "Throttling cannot be used with the server load mode.",
+        String.format("Ensure the load mode is '%s', or remove the throttle settings.", LOAD_MODE_STREAM))
+        .withConfigProperty(LOAD_MODE).withConfigProperty(THROTTLE_BYTES_PER_SECOND)
+        .withConfigProperty(MAX_CONCURRENT_STREAMS).withConfigProperty(ADAPTIVE_THROTTLE);
+    }
+    validateRetries(failureCollector);
+    if (!containsMacro(TABLE_MAPPINGS) && isMultiTable()) {
+      validateTableMappings(failureCollector);
+    }
+    if (!containsMacro(PARTITION_COLUMNS) && isPartitioned()) {
+      if (!containsMacro(LEVEL) && !level.equalsIgnoreCase("basic")) {
+        failureCollector.addFailure(
+          "Partition columns cannot be used with an advanced copy statement.",
+          "Ensure the Basic level is used, so that a copy statement is built for each partition.")
+          .withConfigProperty(PARTITION_COLUMNS).withConfigProperty(LEVEL);
+      }
+      if (!containsMacro(LOAD_MODE) && isServerSideLoad()) {
+        failureCollector.addFailure(
+          "Partition columns cannot be used with the server load mode.",
+          String.format("Ensure the load mode is '%s'.", LOAD_MODE_STREAM))
+          .withConfigProperty(PARTITION_COLUMNS).withConfigProperty(LOAD_MODE);
+      }
+    }
+  }
+
+  private void validateCopyOptions(FailureCollector failureCollector) {
+    if (!containsMacro(ENCLOSED_BY) && !Strings.isNullOrEmpty(enclosedBy)) {
+      if (enclosedBy.length() != 1) {
+        failureCollector.addFailure(
+          String.format("Invalid enclosing character '%s'.", enclosedBy),
+          "Ensure the enclosing character is a single character.")
+          .withConfigProperty(ENCLOSED_BY);
+      } else if (!containsMacro(DELIMITER) && enclosedBy.equals(delimiter)) {
+        failureCollector.addFailure(
+          "The enclosing character is the delimiter.",
+          "Ensure the enclosing character differs from the delimiter.")
+          .withConfigProperty(ENCLOSED_BY).withConfigProperty(DELIMITER);
+      }
+    }
+    // Enclosed fields can hold newlines, so the records of a file cannot be found by looking for newlines
+    if (!containsMacro(ENCLOSED_BY) && !Strings.isNullOrEmpty(enclosedBy) && !containsMacro(FORMAT) && isDelimited()) {
+      if (!containsMacro(SPLIT_SIZE) && splitSize != null) {
+        failureCollector.addFailure(
+          "Files cannot be split with an enclosing character, since a range could start inside an enclosed field.",
+          "Ensure the split size is not set.")
+          .withConfigProperty(ENCLOSED_BY).withConfigProperty(SPLIT_SIZE);
+      }
+      if (!containsMacro(LOAD_MODE) && !isServerSideLoad()) {
+        if (!containsMacro(BATCH_MAX_FILES) && getBatchMaxFiles() > 1) {
+          failureCollector.addFailure(
+            "Files cannot be batched with an enclosing character, since the rejected rows of a batch are attributed " +
+              "to its files by counting lines.",
+            "Ensure the maximum number of files per batch is 1.")
+            .withConfigProperty(ENCLOSED_BY).withConfigProperty(BATCH_MAX_FILES);
+        }
+        if (!containsMacro(REJECTS_PATH) && !containsMacro(MAX_REJECT_PERCENT) && !containsMacro(COMMIT_ROWS)
+          && (!Strings.isNullOrEmpty(rejectsPath) || maxRejectPercent != null || commitRows != null)) {
+          failureCollector.addFailure(
+            "Rejected rows cannot be written and rows cannot be counted with an enclosing character, since they " +
+              "are found by counting lines.",
+            "Ensure the rejects path, maximum percentage of rejected rows and commit every rows are not set.")
+            .withConfigProperty(ENCLOSED_BY).withConfigProperty(REJECTS_PATH).withConfigProperty(MAX_REJECT_PERCENT)
+            .withConfigProperty(COMMIT_ROWS);
+        }
+      }
+    }
+    if (!containsMacro(REJECT_MAX) && rejectMax != null) {
+      if (rejectMax < 0) {
+        failureCollector.addFailure(
+          String.format("Invalid reject max '%d'.", rejectMax),
+          "Ensure the reject max is not negative.")
+          .withConfigProperty(REJECT_MAX);
+      } else if (!containsMacro(ABORT_ON_ERROR) && isAbortOnError()) {
+        failureCollector.addFailure(
+          "Reject max is set with abort on error enabled.",
+          "Ensure either the reject max is set or abort on error is enabled.")
+          .withConfigProperty(REJECT_MAX).withConfigProperty(ABORT_ON_ERROR);
+      }
+    }
+    if (!containsMacro(LOAD_METHOD) && !isAutomaticLoadMethod()
+      && !getLoadMethod().equalsIgnoreCase(LOAD_METHOD_AUTO) && !getLoadMethod().equalsIgnoreCase(LOAD_METHOD_DIRECT)
+      && !getLoadMethod().equalsIgnoreCase(LOAD_METHOD_TRICKLE)) {
+      failureCollector.addFailure(
+        String.format("Invalid load method '%s'.", loadMethod),
+        String.format("Ensure load method is one of '%s', '%s', '%s' or '%s'.", LOAD_METHOD_AUTOMATIC,
+                      LOAD_METHOD_AUTO, LOAD_METHOD_DIRECT, LOAD_METHOD_TRICKLE))
+        .withConfigProperty(LOAD_METHOD);
+    }
+    if (!containsMacro(DIRECT_THRESHOLD_BYTES) && directThresholdBytes != null && directThresholdBytes < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid direct threshold '%d'.", directThresholdBytes),
+        "Ensure the direct threshold is a positive number of bytes.")
+        .withConfigProperty(DIRECT_THRESHOLD_BYTES);
+    }
+    if (!containsMacro(COPY_COLUMNS) && !containsMacro(PARTITION_COLUMNS)) {
+      for (String column : getCopyColumns()) {
+        if (getPartitionColumns().stream().anyMatch(column::equalsIgnoreCase)) {
+          failureCollector.addFailure(
+            String.format("Column %s is both a copy column and a partition column.", column),
+            "Ensure the copy columns only list the columns read from the files.")
+            .withConfigProperty(COPY_COLUMNS).withConfigProperty(PARTITION_COLUMNS);
+        }
+      }
+    }
+  }
+
+  private void validateFormat(FailureCollector failureCollector) {
+    boolean columnar = getFormat().equalsIgnoreCase(FORMAT_PARQUET) || getFormat().equalsIgnoreCase(FORMAT_ORC);
+    if (!isDelimited() && !columnar && !getFormat().equalsIgnoreCase(FORMAT_AVRO)) {
+      failureCollector.addFailure(
+        String.format("Invalid format '%s'.", format),
+        String.format("Ensure format is one of '%s', '%s', '%s' or '%s'.", FORMAT_DELIMITED, FORMAT_PARQUET,
+                      FORMAT_ORC, FORMAT_AVRO))
+        .withConfigProperty(FORMAT);
+      return;
+    }
+    if (isDelimited()) {
+      return;
+    }
+    // Vertica only reads Parquet and ORC from files, since it reads their footer first
+    if (columnar && !containsMacro(LOAD_MODE) && !isServerSideLoad()) {
+      failureCollector.addFailure(
+        String.format("%s files cannot be streamed to Vertica.", getFormat()),
+        String.format("Ensure the load mode is '%s', so that Vertica reads the files itself.", LOAD_MODE_SERVER))
+        .withConfigProperty(FORMAT).withConfigProperty(LOAD_MODE);
+    }
+    if (!containsMacro(ENCLOSED_BY) && !containsMacro(NULL_AS) && !containsMacro(NO_ESCAPE)
+      && (!Strings.isNullOrEmpty(enclosedBy) || nullAs != null || isNoEscape())) {
+      failureCollector.addFailure(
+        String.format("Enclosed by, null as and no escape do not apply to %s files.", getFormat()),
+        "Ensure these options are only set for delimited files.")
+        .withConfigProperty(FORMAT).withConfigProperty(ENCLOSED_BY).withConfigProperty(NULL_AS)
+        .withConfigProperty(NO_ESCAPE);
+    }
+    if (columnar || containsMacro(LOAD_MODE) || isServerSideLoad()) {
+      return;
+    }
+    // The statements of the partitions are only generated for delimited files
+    if (!containsMacro(PARTITION_COLUMNS) && isPartitioned()) {
+      failureCollector.addFailure(
+        "Partition columns cannot be used with Avro files.",
+        String.format("Ensure the format is '%s'.", FORMAT_DELIMITED))
+        .withConfigProperty(FORMAT).withConfigProperty(PARTITION_COLUMNS);
+    }
+    // Streamed Avro files are binary, so they cannot be split on lines and their rows cannot be counted
+    if (!containsMacro(SPLIT_SIZE) && splitSize != null) {
+      failureCollector.addFailure(
+        "Avro files cannot be split.", "Ensure the split size is not set.")
+        .withConfigProperty(FORMAT).withConfigProperty(SPLIT_SIZE);
+    }
+    if (!containsMacro(BATCH_MAX_FILES) && getBatchMaxFiles() > 1) {
+      failureCollector.addFailure(
+        "Avro files cannot be batched, since each file starts with its own header.",
+        "Ensure the maximum number of files per batch is 1.")
+        .withConfigProperty(FORMAT).withConfigProperty(BATCH_MAX_FILES);
+    }
+    if (!containsMacro(REJECTS_PATH) && !containsMacro(MAX_REJECT_PERCENT) && !containsMacro(COMMIT_ROWS)
+      && (!Strings.isNullOrEmpty(rejectsPath) || maxRejectPercent != null || commitRows != null)) {
+      failureCollector.addFailure(
+        "Rejected rows cannot be written and rows cannot be counted for streamed Avro files.",
+        "Ensure the rejects path, maximum percentage of rejected rows and commit every rows are not set.")
+        .withConfigProperty(FORMAT).withConfigProperty(REJECTS_PATH).withConfigProperty(MAX_REJECT_PERCENT)
+        .withConfigProperty(COMMIT_ROWS);
+    }
+  }
+
+  private void validateRetries(FailureCollector failureCollector) {
+    if (!containsMacro(MAX_RETRIES) && maxRetries != null) {
+      if (maxRetries < 0) {
+        failureCollector.addFailure(
+          String.format("Invalid max retries '%d'.", maxRetries),
+          "Ensure max retries is not negative.")
+          .withConfigProperty(MAX_RETRIES);
+      } else if (maxRetries > 0 && !containsMacro(LOAD_MODE) && isServerSideLoad()) {
+        failureCollector.addFailure(
+          "Retries cannot be used with the server load mode.",
+          String.format("Ensure the load mode is '%s', or remove max retries.", LOAD_MODE_STREAM))
+          .withConfigProperty(MAX_RETRIES).withConfigProperty(LOAD_MODE);
+      }
+    }
+    if (!containsMacro(RETRY_BACKOFF_MILLIS) && retryBackoffMillis != null && retryBackoffMillis < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid retry backoff '%d'.", retryBackoffMillis),
+        "Ensure the retry backoff is a positive number of milliseconds.")
+        .withConfigProperty(RETRY_BACKOFF_MILLIS);
+    } else if (!containsMacro(RETRY_BACKOFF_MILLIS) && !containsMacro(RETRY_MAX_BACKOFF_MILLIS)
+      && getRetryMaxBackoffMillis() < getRetryBackoffMillis()) {
+      failureCollector.addFailure(
+        String.format("Invalid retry max backoff '%d'.", getRetryMaxBackoffMillis()),
+        "Ensure the retry max backoff is at least the retry backoff.")
+        .withConfigProperty(RETRY_MAX_BACKOFF_MILLIS);
+    }
+  }
+
+  private void validateTableMappings(FailureCollector failureCollector) {
+    if (!containsMacro(DELIMITER)) {
+      try {
+        if (getTableMappings().isEmpty()) {
+          failureCollector.addFailure("Table mappings do not contain any mapping.",
+                                      "Ensure mappings are written as <pattern>:<table or copy statement>.")
+            .withConfigProperty(TABLE_MAPPINGS);
+        }
+      } catch (IllegalArgumentException e) {
+        failureCollector.addFailure(e.getMessage(),
+                                    "Ensure mappings are written as <pattern>:<table or copy statement>.")
+          .withConfigProperty(TABLE_MAPPINGS);
+      }
+    }
+    // The statements of the mappings take the place of the statements built for partitions and staging tables
+    if (!containsMacro(PARTITION_COLUMNS) && isPartitioned()) {
+      failureCollector.addFailure("Table mappings cannot be used with partition columns.",
+                                  "Ensure either table mappings or partition columns are specified.")
+        .withConfigProperty(TABLE_MAPPINGS).withConfigProperty(PARTITION_COLUMNS);
+    }
+    if (!containsMacro(PUBLISH_MODE) && isStaged()) {
+      failureCollector.addFailure("Table mappings cannot be used with a staging table.",
+                                  String.format("Ensure the publish mode is '%s'.", PUBLISH_MODE_DIRECT))
+        .withConfigProperty(TABLE_MAPPINGS).withConfigProperty(PUBLISH_MODE);
+    }
+    // The tables of the mappings have their own columns
+    if (!containsMacro(COPY_COLUMNS) && !getCopyColumns().isEmpty()) {
+      failureCollector.addFailure("Table mappings cannot be used with copy columns.",
+                                  "Ensure the mappings give a COPY statement with a column list instead.")
+        .withConfigProperty(TABLE_MAPPINGS).withConfigProperty(COPY_COLUMNS);
+    }
+    if (!containsMacro(LOAD_MODE) && isServerSideLoad()) {
+      failureCollector.addFailure("Table mappings cannot be used with the server load mode.",
+                                  String.format("Ensure the load mode is '%s'.", LOAD_MODE_STREAM))
+        .withConfigProperty(TABLE_MAPPINGS).withConfigProperty(LOAD_MODE);
+    }
+  }
+
+  private static List<String> splitColumns(@Nullable String columns) {
+    List<String> names = new ArrayList<>();
+    if (columns != null) {
+      for (String name : columns.split(",")) {
+        if (!name.trim().isEmpty()) {
+          names.add(name.trim());
+        }
+      }
+    }
+    return names;
+  }
+
+  private static void validateGlob(FailureCollector failureCollector, String property, @Nullable String glob) {
+    if (Strings.isNullOrEmpty(glob)) {
+      return;
+    }
+    try {
+      GlobPattern.compile(glob);
+    } catch (PatternSyntaxException e) {
+      failureCollector.addFailure(
+        String.format("Invalid glob pattern '%s': %s", glob, e.getDescription()),
+        "Ensure the pattern is a valid glob, such as '*.csv'.")
+        .withConfigProperty(property);
+    }
+  }
+
+  private void validateCommitCadence(FailureCollector failureCollector, String property, @Nullable Long value,
+                                     String name) {
+    if (!containsMacro(property) && value != null && value < 1) {
+      failureCollector.addFailure(
+        String.format("Invalid commit %s '%d'.", name, value),
+        String.format("Ensure the commit %s is a positive number.", name))
+        .withConfigProperty(property);
+    }
   }
 
   /**
@@ -244,6 +1395,48 @@ public class VerticaImportConfig extends PluginConfig {
     private String copyStatement;
     private String path;
     private String autoCommit;
+    private Integer parallelism;
+    private Long splitSize;
+    private Integer batchMaxFiles;
+    private Long batchMaxBytes;
+    private Integer readAheadBuffers;
+    private Integer readAheadBufferSize;
+    private String loadMode;
+    private String recursive;
+    private String includeFiles;
+    private String excludeFiles;
+    private String skipHiddenFiles;
+    private String manifestTable;
+    private String rejectsPath;
+    private Long maxRejects;
+    private Double maxRejectPercent;
+    private Long commitBytes;
+    private Long commitRows;
+    private Long commitIntervalSeconds;
+    private String publishMode;
+    private String stagingTable;
+    private String mergeKeys;
+    private String partitionColumns;
+    private String tableMappings;
+    private String loadBalancing;
+    private Long throttleBytesPerSecond;
+    private Integer maxConcurrentStreams;
+    private String adaptiveThrottle;
+    private String throttleResourcePool;
+    private Integer preflightSampleFiles;
+    private Integer preflightSampleLines;
+    private String copyColumns;
+    private String enclosedBy;
+    private String nullAs;
+    private String noEscape;
+    private Long rejectMax;
+    private String abortOnError;
+    private String loadMethod;
+    private Long directThresholdBytes;
+    private String format;
+    private Integer maxRetries;
+    private Long retryBackoffMillis;
+    private Long retryMaxBackoffMillis;
 
     private Builder() {
     }
@@ -293,6 +1486,216 @@ public class VerticaImportConfig extends PluginConfig {
       return this;
     }
 
+    public Builder setParallelism(Integer parallelism) {
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    public Builder setSplitSize(Long splitSize) {
+      this.splitSize = splitSize;
+      return this;
+    }
+
+    public Builder setBatchMaxFiles(Integer batchMaxFiles) {
+      this.batchMaxFiles = batchMaxFiles;
+      return this;
+    }
+
+    public Builder setBatchMaxBytes(Long batchMaxBytes) {
+      this.batchMaxBytes = batchMaxBytes;
+      return this;
+    }
+
+    public Builder setReadAheadBuffers(Integer readAheadBuffers) {
+      this.readAheadBuffers = readAheadBuffers;
+      return this;
+    }
+
+    public Builder setReadAheadBufferSize(Integer readAheadBufferSize) {
+      this.readAheadBufferSize = readAheadBufferSize;
+      return this;
+    }
+
+    public Builder setLoadMode(String loadMode) {
+      this.loadMode = loadMode;
+      return this;
+    }
+
+    public Builder setRecursive(String recursive) {
+      this.recursive = recursive;
+      return this;
+    }
+
+    public Builder setIncludeFiles(String includeFiles) {
+      this.includeFiles = includeFiles;
+      return this;
+    }
+
+    public Builder setExcludeFiles(String excludeFiles) {
+      this.excludeFiles = excludeFiles;
+      return this;
+    }
+
+    public Builder setSkipHiddenFiles(String skipHiddenFiles) {
+      this.skipHiddenFiles = skipHiddenFiles;
+      return this;
+    }
+
+    public Builder setManifestTable(String manifestTable) {
+      this.manifestTable = manifestTable;
+      return this;
+    }
+
+    public Builder setRejectsPath(String rejectsPath) {
+      this.rejectsPath = rejectsPath;
+      return this;
+    }
+
+    public Builder setMaxRejects(Long maxRejects) {
+      this.maxRejects = maxRejects;
+      return this;
+    }
+
+    public Builder setMaxRejectPercent(Double maxRejectPercent) {
+      this.maxRejectPercent = maxRejectPercent;
+      return this;
+    }
+
+    public Builder setCommitBytes(Long commitBytes) {
+      this.commitBytes = commitBytes;
+      return this;
+    }
+
+    public Builder setCommitRows(Long commitRows) {
+      this.commitRows = commitRows;
+      return this;
+    }
+
+    public Builder setCommitIntervalSeconds(Long commitIntervalSeconds) {
+      this.commitIntervalSeconds = commitIntervalSeconds;
+      return this;
+    }
+
+    public Builder setPublishMode(String publishMode) {
+      this.publishMode = publishMode;
+      return this;
+    }
+
+    public Builder setStagingTable(String stagingTable) {
+      this.stagingTable = stagingTable;
+      return this;
+    }
+
+    public Builder setMergeKeys(String mergeKeys) {
+      this.mergeKeys = mergeKeys;
+      return this;
+    }
+
+    public Builder setPartitionColumns(String partitionColumns) {
+      this.partitionColumns = partitionColumns;
+      return this;
+    }
+
+    public Builder setTableMappings(String tableMappings) {
+      this.tableMappings = tableMappings;
+      return this;
+    }
+
+    public Builder setLoadBalancing(String loadBalancing) {
+      this.loadBalancing = loadBalancing;
+      return this;
+    }
+
+    public Builder setThrottleBytesPerSecond(Long throttleBytesPerSecond) {
+      this.throttleBytesPerSecond = throttleBytesPerSecond;
+      return this;
+    }
+
+    public Builder setMaxConcurrentStreams(Integer maxConcurrentStreams) {
+      this.maxConcurrentStreams = maxConcurrentStreams;
+      return this;
+    }
+
+    public Builder setAdaptiveThrottle(String adaptiveThrottle) {
+      this.adaptiveThrottle = adaptiveThrottle;
+      return this;
+    }
+
+    public Builder setThrottleResourcePool(String throttleResourcePool) {
+      this.throttleResourcePool = throttleResourcePool;
+      return this;
+    }
+
+    public Builder setPreflightSampleFiles(Integer preflightSampleFiles) {
+      this.preflightSampleFiles = preflightSampleFiles;
+      return this;
+    }
+
+    public Builder setPreflightSampleLines(Integer preflightSampleLines) {
+      this.preflightSampleLines = preflightSampleLines;
+      return this;
+    }
+
+    public Builder setCopyColumns(String copyColumns) {
+      this.copyColumns = copyColumns;
+      return this;
+    }
+
+    public Builder setEnclosedBy(String enclosedBy) {
+      this.enclosedBy = enclosedBy;
+      return this;
+    }
+
+    public Builder setNullAs(String nullAs) {
+      this.nullAs = nullAs;
+      return this;
+    }
+
+    public Builder setNoEscape(String noEscape) {
+      this.noEscape = noEscape;
+      return this;
+    }
+
+    public Builder setRejectMax(Long rejectMax) {
+      this.rejectMax = rejectMax;
+      return this;
+    }
+
+    public Builder setAbortOnError(String abortOnError) {
+      this.abortOnError = abortOnError;
+      return this;
+    }
+
+    public Builder setLoadMethod(String loadMethod) {
+      this.loadMethod = loadMethod;
+      return this;
+    }
+
+    public Builder setDirectThresholdBytes(Long directThresholdBytes) {
+      this.directThresholdBytes = directThresholdBytes;
+      return this;
+    }
+
+    public Builder setFormat(String format) {
+      this.format = format;
+      return this;
+    }
+
+    public Builder setMaxRetries(Integer maxRetries) {
+      this.maxRetries = maxRetries;
+      return this;
+    }
+
+    public Builder setRetryBackoffMillis(Long retryBackoffMillis) {
+      this.retryBackoffMillis = retryBackoffMillis;
+      return this;
+    }
+
+    public Builder setRetryMaxBackoffMillis(Long retryMaxBackoffMillis) {
+      this.retryMaxBackoffMillis = retryMaxBackoffMillis;
+      return this;
+    }
+
     public VerticaImportConfig build() {
       return new VerticaImportConfig(this);
     }
@@ -0,0 +1,273 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An in-process {@link CopySink} that parses the delimited rows copied to it instead of sending them to Vertica, so
+ * that the load path can be tested and benchmarked without a database. Rows without the expected number of columns
+ * are rejected, and each execution can be slowed down to simulate the round trip to the cluster. Executions can also
+ * be made to fail, losing the connection or not.
+ */
+final class FakeCopySink implements CopySink {
+  private final String delimiter;
+  private final int columns;
+  private final long executeLatencyNanos;
+  private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+  // The failure of the execution, by the number of the execution to fail
+  private final Map<Integer, Exception> failures = new HashMap<>();
+  private int executions;
+  private boolean connectionLost;
+  private Long rowsAtSavepoint;
+  private int resets;
+  private long rowsUncommitted;
+  private long rowsCommitted;
+  private long rowsRejected;
+  private long bytesCopied;
+  private int commits;
+  private int finished;
+  private CountDownLatch executing;
+  private CountDownLatch release;
+
+  /**
+   * Creates a sink accepting any number of columns, without latency.
+   */
+  FakeCopySink() {
+    this(",", 0, 0);
+  }
+
+  /**
+   * Creates a sink rejecting rows that do not have the given number of columns, if positive, and sleeping for the
+   * given latency on each execution.
+   */
+  FakeCopySink(String delimiter, int columns, long executeLatencyMillis) {
+    this.delimiter = delimiter;
+    this.columns = columns;
+    this.executeLatencyNanos = TimeUnit.MILLISECONDS.toNanos(executeLatencyMillis);
+  }
+
+  @Override
+  public Session start(String copyStatement) {
+    statements.add(copyStatement);
+    return new FakeSession();
+  }
+
+  @Override
+  public synchronized void commit() {
+    rowsCommitted += rowsUncommitted;
+    rowsUncommitted = 0;
+    rowsAtSavepoint = null;
+    commits++;
+  }
+
+  @Override
+  public synchronized void savepoint() {
+    rowsAtSavepoint = rowsUncommitted;
+  }
+
+  @Override
+  public synchronized void rollbackToSavepoint() throws SQLException {
+    if (connectionLost) {
+      throw new SQLNonTransientConnectionException("The connection was lost.", "08006");
+    }
+    if (rowsAtSavepoint == null) {
+      throw new SQLException("There is no savepoint to roll back to.");
+    }
+    rowsUncommitted = rowsAtSavepoint;
+  }
+
+  @Override
+  public synchronized void reset() {
+    rowsUncommitted = 0;
+    rowsAtSavepoint = null;
+    connectionLost = false;
+    resets++;
+  }
+
+  /**
+   * Fails the execution of the given number, counted from 1 over all sessions, after its streams are read. A failure
+   * losing the connection also loses the rows not committed, which can then only be rolled back by a reset.
+   */
+  synchronized void failExecution(int execution, boolean loseConnection) {
+    failExecution(execution, loseConnection ?
+      new SQLNonTransientConnectionException("The connection was lost.", "08006") :
+      new SocketException("Connection reset while reading the streams."));
+  }
+
+  /**
+   * Fails the execution of the given number, counted from 1 over all sessions, with the given failure after its
+   * streams are read. A {@link SQLNonTransientConnectionException} loses the connection.
+   */
+  synchronized void failExecution(int execution, Exception failure) {
+    failures.put(execution, failure);
+  }
+
+  /**
+   * Makes the executions wait until the given latch is released, ignoring interrupts like a driver blocked on the
+   * network. The other latch is counted down when an execution starts waiting.
+   */
+  synchronized void holdExecutions(CountDownLatch executing, CountDownLatch release) {
+    this.executing = executing;
+    this.release = release;
+  }
+
+  @Override
+  public Connection getConnection() {
+    throw new UnsupportedOperationException("The fake copy sink has no connection to record a manifest.");
+  }
+
+  List<String> getStatements() {
+    return statements;
+  }
+
+  synchronized long getRowsInserted() {
+    return rowsCommitted + rowsUncommitted;
+  }
+
+  synchronized long getRowsCommitted() {
+    return rowsCommitted;
+  }
+
+  synchronized long getRowsRejected() {
+    return rowsRejected;
+  }
+
+  synchronized long getBytesCopied() {
+    return bytesCopied;
+  }
+
+  synchronized int getCommits() {
+    return commits;
+  }
+
+  synchronized int getResets() {
+    return resets;
+  }
+
+  /**
+   * Returns the number of sessions finished so far.
+   */
+  synchronized int getFinished() {
+    return finished;
+  }
+
+  private int countColumns(String row) {
+    int count = 1;
+    for (int i = row.indexOf(delimiter); i >= 0; i = row.indexOf(delimiter, i + delimiter.length())) {
+      count++;
+    }
+    return count;
+  }
+
+  private final class FakeSession implements Session {
+    private final List<InputStream> streams = new ArrayList<>();
+    private final List<Long> rejects = new ArrayList<>();
+    private long rowsInserted;
+
+    @Override
+    public void addStream(InputStream stream) {
+      streams.add(stream);
+    }
+
+    @Override
+    public void execute() throws IOException, SQLException {
+      rejects.clear();
+      long row = 0;
+      long inserted = 0;
+      long bytes = 0;
+      for (InputStream stream : streams) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+          row++;
+          bytes += line.length() + 1;
+          if (columns > 0 && countColumns(line) != columns) {
+            rejects.add(row);
+          } else {
+            inserted++;
+          }
+        }
+      }
+      streams.clear();
+      CountDownLatch hold;
+      synchronized (FakeCopySink.this) {
+        hold = release;
+        if (hold != null) {
+          executing.countDown();
+        }
+      }
+      if (hold != null) {
+        Uninterruptibles.awaitUninterruptibly(hold);
+      }
+      synchronized (FakeCopySink.this) {
+        Exception failure = failures.remove(++executions);
+        if (failure instanceof SQLNonTransientConnectionException) {
+          connectionLost = true;
+        }
+        if (failure instanceof SQLException) {
+          throw (SQLException) failure;
+        } else if (failure != null) {
+          throw (IOException) failure;
+        }
+      }
+      if (executeLatencyNanos > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(executeLatencyNanos);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while simulating the execution latency", e);
+        }
+      }
+      rowsInserted += inserted;
+      synchronized (FakeCopySink.this) {
+        rowsUncommitted += inserted;
+        rowsRejected += rejects.size();
+        bytesCopied += bytes;
+      }
+    }
+
+    @Override
+    public List<Long> getRejects() {
+      return new ArrayList<>(rejects);
+    }
+
+    @Override
+    public long finish() {
+      synchronized (FakeCopySink.this) {
+        finished++;
+      }
+      return rowsInserted;
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class BatchRouterTest {
+  private static final String COPY_STATEMENT = "COPY t FROM STDIN DELIMITER ','";
+  private static final CopyStatement TEMPLATE = CopyStatement.builder().setTable("t").setDelimiter(",").build();
+
+  @Test
+  public void testSingleTable() {
+    BatchRouter router = new BatchRouter(COPY_STATEMENT, null, Collections.emptyList(), 0, 10);
+    router.route("a").add(range("a"));
+    router.route("b").add(range("b"));
+    List<LoadBatch> batches = router.flush();
+    Assert.assertEquals(1, batches.size());
+    Assert.assertEquals(COPY_STATEMENT, batches.get(0).getCopyStatement());
+    Assert.assertNull(batches.get(0).getTable());
+  }
+
+  @Test
+  public void testTableMappings() {
+    BatchRouter router = new BatchRouter(COPY_STATEMENT, null,
+                                         TableMapping.parse("orders:orders;events:events", TEMPLATE), 0, 10);
+    router.route("orders/a").add(range("orders/a"));
+    router.route("events/b").add(range("events/b"));
+    router.route("orders/c").add(range("orders/c"));
+    Assert.assertNull(router.route("other/d"));
+
+    List<LoadBatch> batches = router.flush();
+    Assert.assertEquals(2, batches.size());
+    Assert.assertEquals("orders", batches.get(0).getTable());
+    Assert.assertEquals(2, batches.get(0).getRanges().size());
+    Assert.assertEquals("COPY events FROM STDIN DELIMITER ','", batches.get(1).getCopyStatement());
+  }
+
+  @Test
+  public void testPartitions() {
+    HivePartitions partitions = new HivePartitions(TEMPLATE, Collections.singletonList("dt"),
+                                                   Arrays.asList("id", "dt"));
+    BatchRouter router = new BatchRouter(COPY_STATEMENT, partitions, Collections.emptyList(), 0, 10);
+    router.route("dt=1/a").add(range("dt=1/a"));
+    router.route("dt=2/b").add(range("dt=2/b"));
+    List<LoadBatch> batches = router.flush();
+    Assert.assertEquals(2, batches.size());
+    Assert.assertEquals("COPY t (\"id\", \"dt\" AS '1') FROM STDIN DELIMITER ','", batches.get(0).getCopyStatement());
+  }
+
+  @Test
+  public void testLoadMethodSelection() {
+    LoadMethodSelector selector = new LoadMethodSelector(25);
+    BatchRouter router = new BatchRouter(COPY_STATEMENT, null,
+                                         TableMapping.parse("t:t;u:COPY u FROM STDIN", TEMPLATE), 0, 10, selector);
+    selector.listed(10);
+    router.route("t/a").add(range("t/a"));
+    selector.listed(10);
+    router.route("u/b").add(range("u/b"));
+    selector.listed(10);
+    router.route("t/c").add(range("t/c"));
+    router.route("u/d").add(range("u/d"));
+
+    List<LoadBatch> batches = router.flush();
+    Assert.assertEquals(3, batches.size());
+    // Small loads are left to AUTO, and statements of the mappings are used as they are
+    Assert.assertEquals("COPY t FROM STDIN DELIMITER ','", batches.get(0).getCopyStatement());
+    Assert.assertEquals("COPY u FROM STDIN", batches.get(1).getCopyStatement());
+    Assert.assertEquals(2, batches.get(1).getRanges().size());
+    Assert.assertEquals("COPY t FROM STDIN DELIMITER ',' DIRECT", batches.get(2).getCopyStatement());
+  }
+
+  private static FileRange range(String path) {
+    return new FileRange(new FileStatus(10, false, 1, 1, 0, new Path("/dir/" + path)), 0, 10);
+  }
+}
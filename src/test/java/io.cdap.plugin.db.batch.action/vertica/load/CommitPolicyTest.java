@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class CommitPolicyTest {
+
+  @Test
+  public void testCommitOnlyAtEnd() {
+    CommitPolicy policy = new CommitPolicy(false, 0, 0, 0);
+    Assert.assertFalse(policy.isIncremental());
+    Assert.assertFalse(policy.shouldCommit(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testCommitEveryBatch() {
+    CommitPolicy policy = new CommitPolicy(true, 0, 0, 0);
+    Assert.assertTrue(policy.isIncremental());
+    Assert.assertTrue(policy.shouldCommit(1, -1, 0));
+  }
+
+  @Test
+  public void testFirstThresholdReachedCommits() {
+    CommitPolicy policy = new CommitPolicy(false, 1000, 10, 60);
+    Assert.assertTrue(policy.isIncremental());
+    Assert.assertTrue(policy.isCountingRows());
+    Assert.assertFalse(policy.shouldCommit(999, 9, TimeUnit.SECONDS.toNanos(59)));
+    Assert.assertTrue(policy.shouldCommit(1000, 0, 0));
+    Assert.assertTrue(policy.shouldCommit(0, 10, 0));
+    Assert.assertTrue(policy.shouldCommit(0, 0, TimeUnit.SECONDS.toNanos(60)));
+  }
+
+  @Test
+  public void testUncountedRowsDoNotCommit() {
+    CommitPolicy policy = new CommitPolicy(false, 0, 10, 0);
+    Assert.assertFalse(policy.shouldCommit(Long.MAX_VALUE, -1, Long.MAX_VALUE));
+  }
+}
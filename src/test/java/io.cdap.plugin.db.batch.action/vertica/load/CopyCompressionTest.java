@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import com.google.common.io.ByteStreams;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+public class CopyCompressionTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testApply() {
+    Assert.assertEquals("COPY t FROM STDIN DELIMITER ','",
+                        CopyCompression.UNCOMPRESSED.apply("COPY t FROM STDIN DELIMITER ','"));
+    Assert.assertEquals("COPY t FROM STDIN GZIP DELIMITER ','",
+                        CopyCompression.GZIP.apply("COPY t FROM STDIN DELIMITER ','"));
+    Assert.assertEquals("copy t from   stdin BZIP", CopyCompression.BZIP.apply("copy t from   stdin"));
+  }
+
+  @Test
+  public void testIsSpecified() {
+    Assert.assertTrue(CopyCompression.isSpecified("COPY t FROM STDIN GZIP DELIMITER ','"));
+    Assert.assertTrue(CopyCompression.isSpecified("copy t from stdin lzo"));
+    Assert.assertFalse(CopyCompression.isSpecified("COPY t FROM STDIN DELIMITER ','"));
+  }
+
+  @Test
+  public void testGroupedByCompression() {
+    CompressionCodecFactory codecs = new CompressionCodecFactory(new Configuration());
+    List<FileRange> ranges = Arrays.asList(range(codecs, "a.gz"), range(codecs, "b"), range(codecs, "c.gz"),
+                                           range(codecs, "d.bz2"), range(codecs, "e.deflate"));
+
+    List<LoadBatch> batches = LoadBatchTest.group(ranges, 0, 10);
+    Assert.assertEquals(3, batches.size());
+    for (LoadBatch batch : batches) {
+      for (FileRange range : batch.getRanges()) {
+        Assert.assertEquals(batch.getCompression(), range.getCompression());
+      }
+    }
+  }
+
+  @Test
+  public void testClientSideDecompression() throws IOException {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    CompressionCodecFactory codecs = new CompressionCodecFactory(fs.getConf());
+    File file = new File(temporaryFolder.getRoot(), "data.deflate");
+    Path path = new Path(file.toURI());
+    CompressionCodec codec = codecs.getCodec(path);
+    try (OutputStream out = codec.createOutputStream(fs.create(path))) {
+      out.write("1,a\n2,b\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    FileStatus status = fs.getFileStatus(path);
+    List<FileRange> ranges = FileRange.split(status, 1, codec);
+    Assert.assertEquals(1, ranges.size());
+    Assert.assertEquals(CopyCompression.UNCOMPRESSED, ranges.get(0).getCompression());
+    try (InputStream in = ranges.get(0).open(fs)) {
+      Assert.assertEquals("1,a\n2,b\n", new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8));
+    }
+  }
+
+  private static FileRange range(CompressionCodecFactory codecs, String name) {
+    Path path = new Path("/dir/" + name);
+    return new FileRange(new FileStatus(10, false, 1, 1, 0, path), 0, 10, codecs.getCodec(path));
+  }
+}
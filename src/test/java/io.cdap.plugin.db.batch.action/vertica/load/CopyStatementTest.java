@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class CopyStatementTest {
+
+  @Test
+  public void testBasicStatement() {
+    Assert.assertEquals("COPY t FROM STDIN DELIMITER ','",
+                        CopyStatement.builder().setTable("t").setDelimiter(",").build().toString());
+  }
+
+  @Test
+  public void testAllOptions() {
+    CopyStatement statement = CopyStatement.builder()
+      .setTable("sales.orders")
+      .setColumns(Arrays.asList("id", "amount"))
+      .setDelimiter("|")
+      .setEnclosedBy("'")
+      .setNullAs("")
+      .setNoEscape(true)
+      .setRejectMax(100L)
+      .setLoadMethod(CopyStatement.LoadMethod.DIRECT)
+      .build();
+    Assert.assertEquals("COPY sales.orders (id, amount) FROM STDIN DELIMITER '|' ENCLOSED BY '''' NULL AS '' " +
+                          "NO ESCAPE REJECTMAX 100 DIRECT", statement.toString());
+    Assert.assertEquals("COPY sales.orders (id, amount) FROM STDIN DELIMITER '|' ENCLOSED BY '''' NULL AS '' " +
+                          "NO ESCAPE REJECTMAX 100 DIRECT",
+                        CopyStatement.builder(statement).build().toString());
+  }
+
+  @Test
+  public void testConfigOptions() {
+    VerticaImportConfig config = VerticaImportConfig.builder()
+      .setLevel("Basic")
+      .setDelimiter("\t")
+      .setEnclosedBy("")
+      .setAbortOnError("true")
+      .setLoadMethod(VerticaImportConfig.LOAD_METHOD_TRICKLE)
+      .build();
+    Assert.assertEquals("COPY t FROM STDIN DELIMITER '\t' ABORT ON ERROR TRICKLE",
+                        CopyStatement.builder(config).setTable("t").build().toString());
+  }
+
+  @Test
+  public void testFormats() {
+    VerticaImportConfig config = VerticaImportConfig.builder()
+      .setLevel("Basic")
+      .setDelimiter(",")
+      .setFormat(VerticaImportConfig.FORMAT_AVRO)
+      .setRejectMax(5L)
+      .build();
+    CopyStatement avro = CopyStatement.builder(config).setTable("t").build();
+    Assert.assertFalse(avro.isDelimited());
+    Assert.assertEquals("COPY t FROM STDIN PARSER FAVROPARSER() REJECTMAX 5", avro.toString());
+
+    config = VerticaImportConfig.builder(config).setFormat("parquet").build();
+    Assert.assertEquals("COPY t FROM 'hdfs:///data/*' ON ANY NODE PARQUET REJECTMAX 5",
+                        CopyStatement.builder(config).setTable("t").setSource("'hdfs:///data/*' ON ANY NODE").build()
+                          .toString());
+  }
+
+  @Test
+  public void testWithLoadMethod() {
+    Assert.assertEquals("COPY t FROM STDIN DIRECT",
+                        CopyStatement.withLoadMethod("COPY t FROM STDIN", CopyStatement.LoadMethod.DIRECT));
+    Assert.assertEquals("COPY t FROM STDIN trickle",
+                        CopyStatement.withLoadMethod("COPY t FROM STDIN trickle", CopyStatement.LoadMethod.DIRECT));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class FileDiscoveryTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private FileSystem fs;
+  private Path root;
+
+  @Before
+  public void setUp() throws IOException {
+    fs = FileSystem.getLocal(new Configuration());
+    root = new Path(temporaryFolder.getRoot().toURI());
+    for (String file : Arrays.asList("a.csv", "b.txt", "_SUCCESS", ".a.csv.crc", "dt=1/part-0.csv",
+                                     "dt=1/_SUCCESS", "dt=2/part-0.csv", "dt=2/nested/part-1.csv",
+                                     "_temporary/part-9.csv")) {
+      File f = new File(temporaryFolder.getRoot(), file);
+      f.getParentFile().mkdirs();
+      Assert.assertTrue(f.createNewFile());
+    }
+  }
+
+  @Test
+  public void testTopLevelOnly() throws IOException {
+    Assert.assertEquals(set("a.csv", "b.txt"), list(new FileDiscovery(fs, root, false, null, null)));
+  }
+
+  @Test
+  public void testRecursiveSkipsHiddenFiles() throws IOException {
+    Assert.assertEquals(set("a.csv", "b.txt", "dt=1/part-0.csv", "dt=2/part-0.csv", "dt=2/nested/part-1.csv"),
+                        list(new FileDiscovery(fs, root, true, null, null)));
+  }
+
+  @Test
+  public void testIncludeAndExclude() throws IOException {
+    Assert.assertEquals(set("a.csv", "dt=1/part-0.csv", "dt=2/part-0.csv", "dt=2/nested/part-1.csv"),
+                        list(new FileDiscovery(fs, root, true, "*.csv", null)));
+    Assert.assertEquals(set("dt=1/part-0.csv", "dt=2/part-0.csv"),
+                        list(new FileDiscovery(fs, root, true, "dt=*/part-0.csv", null)));
+    Assert.assertEquals(set("a.csv", "b.txt", "dt=2/part-0.csv", "dt=2/nested/part-1.csv"),
+                        list(new FileDiscovery(fs, root, true, null, "dt=1/*")));
+  }
+
+  @Test
+  public void testSingleFile() throws IOException {
+    Path file = new Path(root, "a.csv");
+    Assert.assertEquals(Collections.singleton("a.csv"), list(new FileDiscovery(fs, file, true, "*.csv", null)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingPath() throws IOException {
+    new FileDiscovery(fs, new Path(root, "missing"), true, null, null).list();
+  }
+
+  @Test
+  public void testAccept() {
+    FileDiscovery discovery = new FileDiscovery(fs, root, true, null, null);
+    Assert.assertTrue(discovery.accept("dt=1/part-0"));
+    Assert.assertFalse(discovery.accept("dt=1/_SUCCESS"));
+    Assert.assertFalse(discovery.accept(".hive-staging/part-0"));
+    Assert.assertFalse(discovery.accept("dt=1/part-0.crc"));
+  }
+
+  @Test
+  public void testAcceptHidden() {
+    FileDiscovery discovery = new FileDiscovery(fs, root, true, null, "_SUCCESS", false);
+    Assert.assertTrue(discovery.accept("_2024.csv"));
+    Assert.assertTrue(discovery.accept(".data/part-0"));
+    Assert.assertFalse(discovery.accept("dt=1/_SUCCESS"));
+  }
+
+  private Set<String> list(FileDiscovery discovery) throws IOException {
+    String prefix = fs.makeQualified(root).toUri().getPath();
+    prefix = prefix.endsWith("/") ? prefix : prefix + "/";
+    Set<String> files = new TreeSet<>();
+    RemoteIterator<LocatedFileStatus> iterator = discovery.list();
+    while (iterator.hasNext()) {
+      files.add(iterator.next().getPath().toUri().getPath().substring(prefix.length()));
+    }
+    return files;
+  }
+
+  private static Set<String> set(String... files) {
+    return new TreeSet<>(Arrays.asList(files));
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class HivePartitionsTest {
+  private static final CopyStatement TEMPLATE = CopyStatement.builder().setTable("events").setDelimiter(",").build();
+  private static final HivePartitions PARTITIONS = new HivePartitions(
+    TEMPLATE, Arrays.asList("country", "dt"), Arrays.asList("id", "DT", "payload", "country"));
+
+  @Test
+  public void testParse() {
+    Assert.assertEquals(Arrays.asList("FR", "2026-10-17"),
+                        PARTITIONS.parse("dt=2026-10-17/other/country=FR/part-0.csv"));
+  }
+
+  @Test
+  public void testParseEscapedAndDefaultValues() {
+    Assert.assertEquals(Arrays.asList(null, "a/b:c"),
+                        PARTITIONS.parse("country=__HIVE_DEFAULT_PARTITION__/dt=a%2Fb%3Ac/part-0"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseMissingPartition() {
+    // The file name is not a partition directory
+    PARTITIONS.parse("country=FR/dt=2026-10-17");
+  }
+
+  @Test
+  public void testBuildStatement() {
+    Assert.assertEquals(
+      "COPY events (\"id\", \"payload\", \"country\" AS NULL, \"dt\" AS '2026''10') FROM STDIN DELIMITER ','",
+      PARTITIONS.buildStatement(Arrays.asList(null, "2026'10")));
+  }
+
+  @Test
+  public void testBuildStatementWithCopyColumns() {
+    CopyStatement template = CopyStatement.builder(TEMPLATE).setColumns(Collections.singletonList("payload"))
+      .setEnclosedBy("\"").setLoadMethod(CopyStatement.LoadMethod.DIRECT).build();
+    HivePartitions partitions = new HivePartitions(template, Collections.singletonList("dt"),
+                                                   Arrays.asList("id", "dt", "payload"));
+    Assert.assertEquals(
+      "COPY events (\"payload\", \"dt\" AS '1') FROM STDIN DELIMITER ',' ENCLOSED BY '\"' DIRECT",
+      partitions.buildStatement(Collections.singletonList("1")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownPartitionColumn() {
+    HivePartitions.of(TEMPLATE, Arrays.asList("country", "day"), Arrays.asList("id", "dt", "country"));
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class LineAlignedRangeInputStreamTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testRangesReturnEveryRecordOnce() throws IOException {
+    String content = "1,a\n22,bb\n333,ccc\n4444,dddd\n55555,eeeee\n";
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    FileStatus file = write(fs, content);
+
+    for (long splitSize = 1; splitSize <= content.length(); splitSize++) {
+      StringBuilder loaded = new StringBuilder();
+      for (FileRange range : FileRange.split(file, splitSize)) {
+        String records = read(range, fs);
+        Assert.assertTrue("Range " + range + " does not end on a record boundary: " + records,
+                          records.isEmpty() || records.endsWith("\n"));
+        loaded.append(records);
+      }
+      Assert.assertEquals("Split size " + splitSize, content, loaded.toString());
+    }
+  }
+
+  @Test
+  public void testLastRecordWithoutNewline() throws IOException {
+    String content = "1,a\n22,bb\n333,ccc";
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    FileStatus file = write(fs, content);
+
+    for (long splitSize = 1; splitSize <= content.length(); splitSize++) {
+      StringBuilder loaded = new StringBuilder();
+      for (FileRange range : FileRange.split(file, splitSize)) {
+        loaded.append(read(range, fs));
+      }
+      Assert.assertEquals("Split size " + splitSize, content, loaded.toString());
+    }
+  }
+
+  private FileStatus write(FileSystem fs, String content) throws IOException {
+    File file = temporaryFolder.newFile();
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return fs.getFileStatus(new Path(file.toURI()));
+  }
+
+  private static String read(FileRange range, FileSystem fs) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (InputStream inputStream = range.open(fs)) {
+      byte[] buffer = new byte[3];
+      int n;
+      while ((n = inputStream.read(buffer)) >= 0) {
+        output.write(buffer, 0, n);
+      }
+    }
+    return new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
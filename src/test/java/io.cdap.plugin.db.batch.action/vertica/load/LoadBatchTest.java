@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class LoadBatchTest {
+
+  @Test
+  public void testGroupByFileCount() {
+    List<FileRange> ranges = Arrays.asList(range("a", 10), range("b", 10), range("c", 10), range("d", 10),
+                                           range("e", 10));
+
+    Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d"), Arrays.asList("e")),
+                        names(group(ranges, 0, 2)));
+  }
+
+  @Test
+  public void testGroupByBytes() {
+    List<FileRange> ranges = Arrays.asList(range("a", 40), range("b", 40), range("c", 500), range("d", 10),
+                                           range("e", 10));
+
+    Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c"), Arrays.asList("d", "e")),
+                        names(group(ranges, 100, 10)));
+  }
+
+  @Test
+  public void testSplitRangesAreNotBatched() {
+    FileStatus big = new FileStatus(200, false, 1, 1, 0, new Path("/dir/big"));
+    List<FileRange> ranges = new ArrayList<>(FileRange.split(big, 100));
+    ranges.add(range("small", 10));
+
+    List<LoadBatch> batches = group(ranges, 0, 10);
+    Assert.assertEquals(3, batches.size());
+    for (LoadBatch batch : batches) {
+      Assert.assertEquals(1, batch.getRanges().size());
+    }
+  }
+
+  @Test
+  public void testGrouperCompletesBatchesWhileListing() {
+    LoadBatch.Grouper grouper = new LoadBatch.Grouper(0, 2);
+
+    Assert.assertTrue(grouper.add(range("a", 10)).isEmpty());
+    Assert.assertTrue(grouper.add(range("b", 10)).isEmpty());
+    Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b")), names(grouper.add(range("c", 10))));
+    Assert.assertEquals(Arrays.asList(Arrays.asList("c")), names(grouper.flush()));
+    Assert.assertTrue(grouper.flush().isEmpty());
+  }
+
+  @Test
+  public void testGrouperStatement() {
+    String statement = "COPY t (a, dt AS '2026-10-17') FROM STDIN DELIMITER ','";
+    LoadBatch.Grouper grouper = new LoadBatch.Grouper(0, 1, statement, null);
+
+    grouper.add(range("a", 10));
+    for (LoadBatch batch : grouper.add(range("b", 10))) {
+      Assert.assertEquals(statement, batch.getCopyStatement());
+    }
+    Assert.assertNull(new LoadBatch(Collections.singletonList(range("c", 10))).getCopyStatement());
+  }
+
+  /**
+   * Groups the ranges as they are listed.
+   */
+  static List<LoadBatch> group(List<FileRange> ranges, long maxBytes, int maxRanges) {
+    LoadBatch.Grouper grouper = new LoadBatch.Grouper(maxBytes, maxRanges);
+    List<LoadBatch> batches = new ArrayList<>();
+    for (FileRange range : ranges) {
+      batches.addAll(grouper.add(range));
+    }
+    batches.addAll(grouper.flush());
+    return batches;
+  }
+
+  private static List<List<String>> names(List<LoadBatch> batches) {
+    return batches.stream()
+      .map(batch -> batch.getRanges().stream().map(range -> range.getPath().getName()).collect(Collectors.toList()))
+      .collect(Collectors.toList());
+  }
+
+  private static FileRange range(String name, long length) {
+    return new FileRange(new FileStatus(length, false, 1, 1, 0, new Path("/dir/" + name)), 0, length);
+  }
+}
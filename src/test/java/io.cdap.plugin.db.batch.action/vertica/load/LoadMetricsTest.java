@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import com.google.common.io.ByteStreams;
+import io.cdap.cdap.etl.mock.common.MockStageMetrics;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class LoadMetricsTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testBytesAreCountedWhileStreaming() throws IOException {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    File file = temporaryFolder.newFile();
+    Files.write(file.toPath(), "1,a\n2,b\n".getBytes(StandardCharsets.UTF_8));
+    FileStatus status = fs.getFileStatus(new Path(file.toURI()));
+    FileRange range = new FileRange(status, 0, status.getLen());
+
+    MockStageMetrics stageMetrics = new MockStageMetrics("bytes");
+    LoadMetrics metrics = new LoadMetrics(stageMetrics);
+    try (InputStream in = metrics.sent(new LazyRangeInputStream(range, fs, metrics))) {
+      ByteStreams.toByteArray(in);
+    }
+    // Small byte counts are only emitted on flush
+    Assert.assertEquals(0, stageMetrics.getCount(LoadMetrics.BYTES_SENT));
+    metrics.flush();
+    Assert.assertEquals(8, stageMetrics.getCount(LoadMetrics.BYTES_READ));
+    Assert.assertEquals(8, stageMetrics.getCount(LoadMetrics.BYTES_SENT));
+  }
+
+  @Test
+  public void testFilesCompleted() {
+    MockStageMetrics stageMetrics = new MockStageMetrics("files");
+    LoadMetrics metrics = new LoadMetrics(stageMetrics);
+    FileStatus big = new FileStatus(200, false, 1, 1, 0, new Path("/dir/big"));
+    List<FileRange> ranges = FileRange.split(big, 100);
+    FileRange small = new FileRange(new FileStatus(10, false, 1, 1, 0, new Path("/dir/small")), 0, 10);
+
+    metrics.batchLoaded(new LoadBatch(Collections.singletonList(ranges.get(1))), 0, 2);
+    Assert.assertEquals(0, stageMetrics.getCount(LoadMetrics.FILES_COMPLETED));
+    metrics.batchLoaded(new LoadBatch(Arrays.asList(ranges.get(0), small)), 0, 1);
+    Assert.assertEquals(2, stageMetrics.getCount(LoadMetrics.FILES_COMPLETED));
+    Assert.assertEquals(3, stageMetrics.getCount(LoadMetrics.ROWS_REJECTED));
+  }
+
+  @Test
+  public void testCommitsAreCounted() {
+    MockStageMetrics stageMetrics = new MockStageMetrics("commits");
+    LoadMetrics metrics = new LoadMetrics(stageMetrics);
+    metrics.committed(TimeUnit.MILLISECONDS.toNanos(5));
+    metrics.committed(TimeUnit.MILLISECONDS.toNanos(7));
+    Assert.assertEquals(2, stageMetrics.getCount(LoadMetrics.COMMITS));
+    Assert.assertEquals(12, stageMetrics.getCount(LoadMetrics.COMMIT_MS));
+  }
+
+  @Test
+  public void testTableMetrics() {
+    MockStageMetrics stageMetrics = new MockStageMetrics("tables");
+    LoadMetrics metrics = new LoadMetrics(stageMetrics);
+    FileRange range = new FileRange(new FileStatus(10, false, 1, 1, 0, new Path("/dir/orders/a")), 0, 10);
+
+    metrics.batchLoaded(new LoadBatch(Collections.singletonList(range), "COPY orders FROM STDIN", "orders"), 0, 1);
+    metrics.rowsInserted(5, "orders");
+    metrics.rowsInserted(3, null);
+    Assert.assertEquals(1, stageMetrics.getCount(LoadMetrics.tagged(LoadMetrics.FILES_COMPLETED, "orders")));
+    Assert.assertEquals(1, stageMetrics.getCount(LoadMetrics.tagged(LoadMetrics.ROWS_REJECTED, "orders")));
+    Assert.assertEquals(5, stageMetrics.getCount(LoadMetrics.tagged(LoadMetrics.ROWS_INSERTED, "orders")));
+    Assert.assertEquals(8, stageMetrics.getCount(LoadMetrics.ROWS_INSERTED));
+  }
+
+  @Test
+  public void testNodeMetrics() {
+    MockStageMetrics stageMetrics = new MockStageMetrics("nodes");
+    LoadMetrics metrics = new LoadMetrics(stageMetrics);
+
+    metrics.nodeLoaded("v_db_node0002", 100);
+    metrics.nodeLoaded("v_db_node0001", 10);
+    metrics.nodeLoaded("v_db_node0002", 50);
+    Assert.assertEquals(150, stageMetrics.getCount(LoadMetrics.tagged(LoadMetrics.NODE_BYTES, "v_db_node0002")));
+    Assert.assertEquals(10, stageMetrics.getCount(LoadMetrics.tagged(LoadMetrics.NODE_BYTES, "v_db_node0001")));
+    Assert.assertEquals("{v_db_node0001=10, v_db_node0002=150}", metrics.getNodeBytes().toString());
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class LoadSchedulerTest {
+
+  @Test
+  public void testOrderLargestFirst() {
+    List<LoadBatch> batches = Arrays.asList(batch("a", 50), batch("b", 40000), batch("c", 50), batch("d", 700));
+
+    List<String> ordered = new LoadScheduler(2).order(batches).stream()
+      .map(batch -> batch.getRanges().get(0).getPath().getName())
+      .collect(Collectors.toList());
+    Assert.assertEquals(Arrays.asList("b", "d", "a", "c"), ordered);
+  }
+
+  @Test
+  public void testPredictSlotBytes() {
+    LoadScheduler scheduler = new LoadScheduler(2);
+    List<LoadBatch> ordered = scheduler.order(
+      Arrays.asList(batch("a", 30), batch("b", 20), batch("c", 50), batch("d", 10), batch("e", 40)));
+
+    // 50 -> slot 0, 40 -> slot 1, 30 -> slot 1, 20 -> slot 0, 10 -> slot 0
+    Assert.assertArrayEquals(new long[] {80, 70}, scheduler.predictSlotBytes(ordered));
+  }
+
+  @Test
+  public void testFormatSlotBytes() {
+    Assert.assertEquals("[70, 20, 5]", LoadScheduler.formatSlotBytes(new long[] {5, 70, 20}));
+  }
+
+  @Test
+  public void testOrderSplitRanges() {
+    FileStatus file = new FileStatus(250, false, 1, 1, 0, new Path("/dir/big"));
+    List<LoadBatch> batches = new LoadScheduler(2).order(LoadBatchTest.group(FileRange.split(file, 100), 0, 10));
+
+    Assert.assertEquals(3, batches.size());
+    Assert.assertEquals(0, batches.get(0).getRanges().get(0).getStart());
+    Assert.assertEquals(100, batches.get(1).getRanges().get(0).getStart());
+    Assert.assertEquals(200, batches.get(2).getRanges().get(0).getStart());
+    Assert.assertEquals(50, batches.get(2).getLength());
+  }
+
+  private static LoadBatch batch(String name, long length) {
+    FileStatus file = new FileStatus(length, false, 1, 1, 0, new Path("/dir/" + name));
+    return new LoadBatch(Collections.singletonList(new FileRange(file, 0, length)));
+  }
+}
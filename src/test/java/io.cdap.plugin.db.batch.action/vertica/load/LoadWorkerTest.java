@@ -0,0 +1,268 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import io.cdap.cdap.etl.mock.common.NoopMetrics;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.security.AccessControlException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipException;
+
+public class LoadWorkerTest {
+  private static final String COPY_STATEMENT = "COPY t FROM STDIN DELIMITER ','";
+  private static final VerticaImportConfig CONFIG = new VerticaImportConfig(
+    "jdbc:vertica://localhost:5433/test", "dbadmin", "testpassword", "Basic", "t", ",", "", "/dir", "false");
+  private static final VerticaImportConfig RETRY_CONFIG = VerticaImportConfig.builder(CONFIG)
+    .setMaxRetries(2)
+    .setRetryBackoffMillis(1L)
+    .build();
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test(timeout = 10000)
+  public void testLoadsBatches() throws Exception {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    LoadQueue batches = new LoadQueue();
+    batches.add(new LoadBatch(Arrays.asList(range(fs, "1,a\n2,b\n"), range(fs, "3,c\n"))));
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "4,d\n5\n6,f\n"))));
+    batches.close();
+
+    FakeCopySink sink = new FakeCopySink(",", 2, 0);
+    LoadResult result = worker(sink, fs, batches, CONFIG).call();
+
+    Assert.assertEquals(5, result.getRowsInserted());
+    Assert.assertEquals(1, result.getRowsRejected());
+    Assert.assertEquals(3, result.getRangesLoaded());
+    Assert.assertEquals(1, sink.getRowsRejected());
+    // Batches of the same statement share a COPY session, which is left uncommitted
+    Assert.assertEquals(Collections.singletonList(COPY_STATEMENT), sink.getStatements());
+    Assert.assertEquals(0, sink.getCommits());
+  }
+
+  @Test(timeout = 10000)
+  public void testAutoCommit() throws Exception {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    LoadQueue batches = new LoadQueue();
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "1,aaa\n"))));
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "2,b\n")), "COPY u FROM STDIN", "u"));
+    batches.close();
+
+    FakeCopySink sink = new FakeCopySink();
+    VerticaImportConfig config = VerticaImportConfig.builder(CONFIG).setAutoCommit("true").build();
+    worker(sink, fs, batches, config).call();
+
+    Assert.assertEquals(Arrays.asList(COPY_STATEMENT, "COPY u FROM STDIN"), sink.getStatements());
+    Assert.assertEquals(2, sink.getCommits());
+    Assert.assertEquals(2, sink.getRowsCommitted());
+  }
+
+  @Test(timeout = 10000)
+  public void testRetriesFailedBatch() throws Exception {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    LoadQueue batches = new LoadQueue();
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "1,aaa\n2,b\n"))));
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "3,c\n"))));
+    batches.close();
+
+    FakeCopySink sink = new FakeCopySink();
+    sink.failExecution(2, false);
+    LoadMetrics metrics = new LoadMetrics(NoopMetrics.INSTANCE);
+    LoadResult result = worker(sink, fs, batches, RETRY_CONFIG, metrics).call();
+
+    // Only the failed batch is rolled back and loaded again
+    Assert.assertEquals(3, result.getRowsInserted());
+    Assert.assertEquals(3, sink.getRowsInserted());
+    Assert.assertEquals(0, sink.getResets());
+    // Each batch has its own COPY statement, so that it has its own savepoint
+    Assert.assertEquals(Arrays.asList(COPY_STATEMENT, COPY_STATEMENT, COPY_STATEMENT), sink.getStatements());
+    Assert.assertEquals(1, metrics.getRetries());
+    Assert.assertEquals(4, metrics.getBytesWasted());
+  }
+
+  @Test(timeout = 10000)
+  public void testReloadsUncommittedBatchesAfterConnectionLoss() throws Exception {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    LoadQueue batches = new LoadQueue();
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "1,aaa\n2,b\n"))));
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "3,c\n"))));
+    batches.close();
+
+    FakeCopySink sink = new FakeCopySink();
+    sink.failExecution(2, true);
+    LoadMetrics metrics = new LoadMetrics(NoopMetrics.INSTANCE);
+    LoadResult result = worker(sink, fs, batches, RETRY_CONFIG, metrics).call();
+
+    // The first batch was lost with the connection, so it is loaded again without being counted twice
+    Assert.assertEquals(3, result.getRowsInserted());
+    Assert.assertEquals(3, sink.getRowsInserted());
+    Assert.assertEquals(1, sink.getResets());
+    Assert.assertEquals(1, metrics.getRetries());
+    Assert.assertEquals(4 + 10, metrics.getBytesWasted());
+  }
+
+  @Test(timeout = 10000)
+  public void testFailsAfterMaxRetries() throws Exception {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    LoadQueue batches = new LoadQueue();
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "1,a\n"))));
+    batches.close();
+
+    FakeCopySink sink = new FakeCopySink();
+    sink.failExecution(1, false);
+    sink.failExecution(2, false);
+    sink.failExecution(3, false);
+    try {
+      worker(sink, fs, batches, RETRY_CONFIG).call();
+      Assert.fail("The load should fail once the retries are exhausted");
+    } catch (IOException e) {
+      Assert.assertEquals(0, sink.getRowsInserted());
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void testDoesNotRetryPermissionError() throws Exception {
+    assertFailsWithoutRetry(new AccessControlException("Permission denied: user=cdap, access=READ"));
+  }
+
+  @Test(timeout = 10000)
+  public void testDoesNotRetryCorruptCompressedFile() throws Exception {
+    assertFailsWithoutRetry(new ZipException("invalid stored block lengths"));
+  }
+
+  private void assertFailsWithoutRetry(IOException failure) throws Exception {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    LoadQueue batches = new LoadQueue();
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "1,a\n"))));
+    batches.close();
+
+    FakeCopySink sink = new FakeCopySink();
+    sink.failExecution(1, failure);
+    LoadMetrics metrics = new LoadMetrics(NoopMetrics.INSTANCE);
+    try {
+      worker(sink, fs, batches, RETRY_CONFIG, metrics).call();
+      Assert.fail("The load should fail on the first attempt");
+    } catch (IOException e) {
+      Assert.assertSame(failure, e);
+      Assert.assertEquals(0, metrics.getRetries());
+      Assert.assertEquals(Collections.singletonList(COPY_STATEMENT), sink.getStatements());
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void testDoesNotCommitAfterStopTimeout() throws Exception {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    LoadQueue batches = new LoadQueue();
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "1,a\n"))));
+    batches.close();
+
+    FakeCopySink sink = new FakeCopySink();
+    CountDownLatch executing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    sink.holdExecutions(executing, release);
+    VerticaImportConfig config = VerticaImportConfig.builder(CONFIG).setAutoCommit("true").build();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    Future<LoadResult> result = executor.submit(worker(sink, fs, batches, config));
+    executing.await();
+
+    // The load fails and stops its workers, which do not stop in time since the execution is stuck
+    batches.abort();
+    executor.shutdownNow();
+    Assert.assertFalse(executor.awaitTermination(100, TimeUnit.MILLISECONDS));
+    release.countDown();
+    try {
+      result.get();
+      Assert.fail("The worker should fail once the load is stopped");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof InterruptedException);
+    }
+    Assert.assertEquals(0, sink.getCommits());
+    Assert.assertEquals(0, sink.getRowsCommitted());
+  }
+
+  @Test(timeout = 10000)
+  public void testEndsStreamWhenThrottleLowered() throws Exception {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    LoadQueue batches = new LoadQueue();
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "1,aaa\n"))));
+    batches.add(new LoadBatch(Collections.singletonList(range(fs, "2,b\n"))));
+    batches.close();
+
+    Throttle throttle = new Throttle(0, 2, 0);
+    // Another worker holds a stream
+    throttle.startStream();
+    FakeCopySink sink = new FakeCopySink();
+    CountDownLatch executing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    sink.holdExecutions(executing, release);
+    LoadWorker worker = new LoadWorker(sink, null, COPY_STATEMENT, fs, batches, CONFIG, null,
+                                       new LoadMetrics(NoopMetrics.INSTANCE), new RejectTracker(fs, null), throttle);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    Future<LoadResult> result = executor.submit(worker);
+    executing.await();
+
+    // The cluster is congested while both streams are open, which only allows one
+    throttle.adapt(1, TimeUnit.SECONDS.toNanos(10));
+    Assert.assertEquals(1, throttle.getStreamLimit());
+    release.countDown();
+    // The worker ends its stream before the next batch, and waits for the other stream to end to start a new one
+    while (sink.getFinished() == 0) {
+      Thread.sleep(10);
+    }
+    Assert.assertEquals(1, sink.getStatements().size());
+    throttle.endStream();
+
+    Assert.assertEquals(2, result.get().getRowsInserted());
+    Assert.assertEquals(Arrays.asList(COPY_STATEMENT, COPY_STATEMENT), sink.getStatements());
+    executor.shutdown();
+  }
+
+  private static LoadWorker worker(CopySink sink, FileSystem fs, LoadQueue batches, VerticaImportConfig config) {
+    return worker(sink, fs, batches, config, new LoadMetrics(NoopMetrics.INSTANCE));
+  }
+
+  private static LoadWorker worker(CopySink sink, FileSystem fs, LoadQueue batches, VerticaImportConfig config,
+                                   LoadMetrics metrics) {
+    return new LoadWorker(sink, null, COPY_STATEMENT, fs, batches, config, null, metrics,
+                          new RejectTracker(fs, null), null);
+  }
+
+  private FileRange range(FileSystem fs, String content) throws IOException {
+    File file = temporaryFolder.newFile();
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    FileStatus status = fs.getFileStatus(new Path(file.getAbsolutePath()));
+    return new FileRange(status, 0, status.getLen());
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NodeConnectorTest {
+
+  @Test
+  public void testWithHost() {
+    Assert.assertEquals("jdbc:vertica://10.0.0.2:5433/db",
+                        NodeConnector.withHost("jdbc:vertica://vertica.example.com:5433/db", "10.0.0.2"));
+    Assert.assertEquals("jdbc:vertica://node02/db?ssl=true&TLSmode=require",
+                        NodeConnector.withHost("jdbc:vertica://node01/db?ssl=true&TLSmode=require", "node02"));
+    Assert.assertEquals("jdbc:vertica://[fd00::2]:5433/db",
+                        NodeConnector.withHost("jdbc:vertica://node01:5433/db", "fd00::2"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWithHostInvalidConnectionString() {
+    NodeConnector.withHost("jdbc:postgresql://host:5432/db", "node02");
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import com.google.common.io.ByteStreams;
+import io.cdap.cdap.etl.mock.common.NoopMetrics;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class ReadAheadReaderTest {
+
+  private static final LoadMetrics METRICS = new LoadMetrics(NoopMetrics.INSTANCE);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test(timeout = 10000)
+  public void testReadsRangesInOrder() throws IOException {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    FileRange first = range(fs, "first,1\nfirst,2\n");
+    FileRange second = range(fs, "second,1\n");
+    FileRange empty = range(fs, "");
+
+    // Buffers are much smaller than the files, so the reader has to wait for the consumer to release them
+    try (ReadAheadReader reader = new ReadAheadReader(fs, METRICS, 2, 3, "reader")) {
+      InputStream firstStream = reader.open(first);
+      InputStream emptyStream = reader.open(empty);
+      InputStream secondStream = reader.open(second);
+
+      Assert.assertEquals("first,1\nfirst,2\n", read(firstStream));
+      Assert.assertEquals("", read(emptyStream));
+      Assert.assertEquals("second,1\n", read(secondStream));
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void testCloseReleasesBuffers() throws IOException {
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    FileRange first = range(fs, "first,1\nfirst,2\nfirst,3\n");
+    FileRange second = range(fs, "second,1\n");
+
+    try (ReadAheadReader reader = new ReadAheadReader(fs, METRICS, 2, 4, "reader")) {
+      InputStream firstStream = reader.open(first);
+      InputStream secondStream = reader.open(second);
+
+      Assert.assertEquals('f', firstStream.read());
+      // Closing before the end must hand the buffers back, or the reader never gets to the second range
+      firstStream.close();
+      Assert.assertEquals("second,1\n", read(secondStream));
+    }
+  }
+
+  private FileRange range(FileSystem fs, String content) throws IOException {
+    File file = temporaryFolder.newFile();
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    FileStatus status = fs.getFileStatus(new Path(file.toURI()));
+    return new FileRange(status, 0, status.getLen());
+  }
+
+  private static String read(InputStream inputStream) throws IOException {
+    try (InputStream in = inputStream) {
+      return new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RejectSetTest {
+
+  @Test
+  public void testConsecutiveRowsShareARun() {
+    RejectSet rejects = new RejectSet();
+    for (long row = 1; row <= 1000000; row++) {
+      rejects.add(row);
+    }
+    rejects.add(2000000);
+
+    Assert.assertEquals(1000001, rejects.size());
+    Assert.assertEquals(2, rejects.getRuns());
+    Assert.assertEquals(2000000, rejects.last());
+    Assert.assertTrue(rejects.contains(1));
+    Assert.assertTrue(rejects.contains(500000));
+    Assert.assertFalse(rejects.contains(1000001));
+    Assert.assertTrue(rejects.contains(2000000));
+    Assert.assertFalse(rejects.contains(2000001));
+  }
+
+  @Test
+  public void testScatteredRows() {
+    RejectSet rejects = new RejectSet();
+    for (long row = 3; row < 100; row += 3) {
+      rejects.add(row);
+    }
+
+    Assert.assertEquals(33, rejects.getRuns());
+    Assert.assertFalse(rejects.contains(1));
+    Assert.assertTrue(rejects.contains(3));
+    Assert.assertFalse(rejects.contains(4));
+    Assert.assertTrue(rejects.contains(99));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRowsMustIncrease() {
+    RejectSet rejects = new RejectSet();
+    rejects.add(5);
+    rejects.add(2);
+  }
+}
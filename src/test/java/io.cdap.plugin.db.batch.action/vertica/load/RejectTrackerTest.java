@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import com.google.common.io.ByteStreams;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class RejectTrackerTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private FileSystem fs;
+  private Path rejectsDir;
+
+  @Before
+  public void setUp() throws IOException {
+    fs = FileSystem.getLocal(new Configuration());
+    rejectsDir = new Path(temporaryFolder.newFolder("rejects").toURI());
+  }
+
+  @Test
+  public void testRejectsAreAttributedToFiles() throws IOException {
+    FileRange first = range("first", "1,a\nbad\n3,c\n");
+    FileRange second = range("second", "bad\n5,e\nbad");
+    LoadBatch batch = new LoadBatch(Arrays.asList(first, second));
+
+    // Row numbers count the rows of both files
+    RejectTracker tracker = new RejectTracker(fs, rejectsDir);
+    tracker.record(batch, Arrays.asList(2L, 4L, 6L), new long[] {3, 3});
+
+    Assert.assertEquals(Long.valueOf(1), tracker.getRejectsBySource().get(first.getPath().toString()));
+    Assert.assertEquals(Long.valueOf(2), tracker.getRejectsBySource().get(second.getPath().toString()));
+    Assert.assertEquals("bad\n", read(tracker.getRejectsPath(first)));
+    Assert.assertEquals("bad\nbad\n", read(tracker.getRejectsPath(second)));
+    Assert.assertEquals(second.getPath() + ": 2, " + first.getPath() + ": 1", tracker.summary(10));
+  }
+
+  @Test
+  public void testSplitRange() throws IOException {
+    FileStatus file = range("split", "1,a\n2,b\nbad\n4,d\n").getFile();
+    FileRange second = FileRange.split(file, 8).get(1);
+
+    RejectTracker tracker = new RejectTracker(fs, rejectsDir);
+    tracker.record(new LoadBatch(Collections.singletonList(second)), Collections.singletonList(1L), null);
+
+    Assert.assertTrue(tracker.getRejectsPath(second).getName().endsWith(".8.rejected"));
+    Assert.assertEquals("bad\n", read(tracker.getRejectsPath(second)));
+  }
+
+  @Test
+  public void testUncountedBatch() throws IOException {
+    LoadBatch batch = new LoadBatch(Arrays.asList(range("a", "bad\n"), range("b", "2\n")));
+
+    RejectTracker tracker = new RejectTracker(fs, null);
+    tracker.record(batch, Collections.singletonList(1L), null);
+
+    Assert.assertEquals(Collections.singletonMap(batch.toString(), 1L), tracker.getRejectsBySource());
+  }
+
+  @Test
+  public void testMaxRejects() throws IOException {
+    FileRange range = range("a", "bad\nbad\nbad\n");
+    LoadBatch batch = new LoadBatch(Collections.singletonList(range));
+    RejectTracker tracker = new RejectTracker(fs, null, 2L, null);
+
+    tracker.record(batch, Arrays.asList(1L, 2L), null);
+    try {
+      tracker.record(batch, Collections.singletonList(3L), null);
+      Assert.fail("Expected the load to be aborted");
+    } catch (IllegalStateException e) {
+      Assert.assertTrue(e.getMessage(), e.getMessage().contains(range.getPath() + ": 3"));
+    }
+  }
+
+  @Test
+  public void testMaxRejectPercent() {
+    RejectTracker tracker = new RejectTracker(fs, null, null, 10.0);
+    Assert.assertTrue(tracker.isCountingRows());
+
+    // Not significant before enough rows were loaded
+    tracker.record("COPY 1", 50, 100);
+    tracker.record("COPY 2", 50, 2000);
+    try {
+      tracker.record("COPY 3", 400, 1000);
+      Assert.fail("Expected the load to be aborted");
+    } catch (IllegalStateException e) {
+      Assert.assertTrue(e.getMessage(), e.getMessage().contains("500 of 3100 rows"));
+    }
+  }
+
+  @Test
+  public void testLineCounting() throws IOException {
+    LineCountingInputStream in = new LineCountingInputStream(
+      new ByteArrayInputStream("a\nb\nc".getBytes(StandardCharsets.UTF_8)));
+    ByteStreams.toByteArray(in);
+    Assert.assertEquals(3, in.getLines());
+  }
+
+  private FileRange range(String name, String content) throws IOException {
+    File file = temporaryFolder.newFile(name);
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    FileStatus status = fs.getFileStatus(new Path(file.toURI()));
+    return new FileRange(status, 0, status.getLen());
+  }
+
+  private String read(Path path) throws IOException {
+    try (InputStream in = fs.open(path)) {
+      return new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.apache.hadoop.fs.ChecksumException;
+import org.apache.hadoop.security.AccessControlException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.util.zip.ZipException;
+
+public class RetryPolicyTest {
+
+  @Test
+  public void testDisabledByDefault() {
+    VerticaImportConfig config = new VerticaImportConfig(
+      "jdbc:vertica://localhost:5433/test", "dbadmin", "testpassword", "Basic", "t", ",", "", "/dir", "false");
+    RetryPolicy policy = RetryPolicy.of(config);
+    Assert.assertFalse(policy.isEnabled());
+    Assert.assertFalse(policy.shouldRetry(new SocketException("Connection reset"), 1));
+  }
+
+  @Test
+  public void testRetriesUpToMaxRetries() {
+    RetryPolicy policy = new RetryPolicy(2, 100, 1000);
+    Assert.assertTrue(policy.isEnabled());
+    Assert.assertTrue(policy.shouldRetry(new SocketException("Connection reset"), 1));
+    Assert.assertTrue(policy.shouldRetry(new SocketException("Connection reset"), 2));
+    Assert.assertFalse(policy.shouldRetry(new SocketException("Connection reset"), 3));
+  }
+
+  @Test
+  public void testBackoffDoublesUpToMax() {
+    RetryPolicy policy = new RetryPolicy(10, 100, 1000);
+    Assert.assertEquals(100, policy.backoffMillis(1));
+    Assert.assertEquals(200, policy.backoffMillis(2));
+    Assert.assertEquals(800, policy.backoffMillis(4));
+    Assert.assertEquals(1000, policy.backoffMillis(5));
+    Assert.assertEquals(1000, policy.backoffMillis(Integer.MAX_VALUE));
+    for (int i = 0; i < 100; i++) {
+      long backoff = policy.jitteredBackoffMillis(2);
+      Assert.assertTrue(backoff >= 100 && backoff <= 200);
+    }
+  }
+
+  @Test
+  public void testTransientFailures() {
+    Assert.assertTrue(RetryPolicy.isTransient(new SocketException("Connection reset")));
+    Assert.assertTrue(RetryPolicy.isTransient(new IOException(new SocketTimeoutException("Read timed out"))));
+    Assert.assertTrue(RetryPolicy.isTransient(new RuntimeException(new ConnectException("Connection refused"))));
+    Assert.assertTrue(RetryPolicy.isTransient(new SQLNonTransientConnectionException("Connection lost")));
+    Assert.assertTrue(RetryPolicy.isTransient(new SQLException("Connection reset", "08006")));
+    Assert.assertTrue(RetryPolicy.isTransient(new SQLException("Node is shutting down", "57P01")));
+    Assert.assertTrue(RetryPolicy.isTransient(new SQLException("Insufficient resources", "53000")));
+
+    Assert.assertFalse(RetryPolicy.isTransient(new SQLException("Syntax error", "42601")));
+    Assert.assertFalse(RetryPolicy.isTransient(new SQLException("No SQLSTATE")));
+    Assert.assertFalse(RetryPolicy.isTransient(new FileNotFoundException("/dir/a.csv")));
+    Assert.assertFalse(RetryPolicy.isTransient(new InterruptedIOException("Interrupted")));
+    Assert.assertFalse(RetryPolicy.isTransient(new IOException("Failed to read")));
+    Assert.assertFalse(RetryPolicy.isTransient(new AccessControlException("Permission denied: user=cdap")));
+    Assert.assertFalse(RetryPolicy.isTransient(new ChecksumException("Checksum error: /dir/a.csv", 0)));
+    Assert.assertFalse(RetryPolicy.isTransient(new ZipException("invalid stored block lengths")));
+    Assert.assertFalse(RetryPolicy.isTransient(new EOFException("Unexpected end of ZLIB input stream")));
+    Assert.assertFalse(RetryPolicy.isTransient(new IllegalStateException("Load aborted after 10 rejected rows")));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SampleValidatorTest {
+  private static final List<TableMetadata.Column> COLUMNS = Arrays.asList(
+    new TableMetadata.Column("id", Types.BIGINT, "Integer", false),
+    new TableMetadata.Column("price", Types.NUMERIC, "Numeric", true),
+    new TableMetadata.Column("active", Types.BOOLEAN, "Boolean", true),
+    new TableMetadata.Column("name", Types.VARCHAR, "Varchar", true));
+
+  @Test
+  public void testValidLines() throws IOException {
+    SampleValidator validator = new SampleValidator(",", 10);
+    validate(validator, "1,9.99,t,first\n 2 ,,false,a\\,b\n3,1e3,1,\n", 10);
+    Assert.assertEquals(Collections.emptyList(), validator.getProblems());
+  }
+
+  @Test
+  public void testOnlyFirstLinesAreChecked() throws IOException {
+    SampleValidator validator = new SampleValidator(",", 10);
+    validate(validator, "1,9.99,t,first\nnot a row\n", 1);
+    Assert.assertEquals(Collections.emptyList(), validator.getProblems());
+  }
+
+  @Test
+  public void testWrongDelimiter() throws IOException {
+    SampleValidator validator = new SampleValidator(",", 10);
+    validate(validator, "1|9.99|t|first\n", 10);
+    Assert.assertEquals(Collections.singletonList(
+      "File f line 1 has 1 fields separated by ',', but the table has 4 columns. " +
+        "The file seems to be delimited by '|'."), validator.getProblems());
+  }
+
+  @Test
+  public void testValueNotFittingColumn() throws IOException {
+    SampleValidator validator = new SampleValidator(",", 10);
+    validate(validator, "1,9.99,t,first\n2,cheap,f,second\n", 10);
+    Assert.assertEquals(Collections.singletonList(
+      "File f line 2 has value 'cheap' in field 2, which is not a valid Numeric for column price."),
+                        validator.getProblems());
+  }
+
+  @Test
+  public void testWindowsLineEnding() throws IOException {
+    List<TableMetadata.Column> columns = Arrays.asList(
+      new TableMetadata.Column("name", Types.VARCHAR, "Varchar", true),
+      new TableMetadata.Column("id", Types.INTEGER, "Integer", true));
+    SampleValidator validator = new SampleValidator("\t", 10);
+    validator.validate("f", new ByteArrayInputStream("a\t1\r\n".getBytes(StandardCharsets.UTF_8)), 10, columns);
+    Assert.assertEquals(Collections.singletonList(
+      "File f line 1 has value '1\\r' in field 2, which is not a valid Integer for column id. " +
+        "The file seems to have Windows line endings."), validator.getProblems());
+  }
+
+  @Test
+  public void testEmptyNotNullField() throws IOException {
+    SampleValidator validator = new SampleValidator(",", 10);
+    validate(validator, ",9.99,t,first\n", 10);
+    Assert.assertEquals(Collections.singletonList(
+      "File f line 1 has an empty field 1, which is loaded as NULL into NOT NULL column id."),
+                        validator.getProblems());
+  }
+
+  @Test
+  public void testInvalidEncoding() throws IOException {
+    SampleValidator validator = new SampleValidator(",", 10);
+    // "café" in ISO-8859-1
+    byte[] latin1 = "1,1,t,café\n".getBytes(StandardCharsets.ISO_8859_1);
+    validator.validate("f", new ByteArrayInputStream(latin1), 10, COLUMNS);
+    Assert.assertEquals(Collections.singletonList("File f line 1 is not valid UTF-8, the encoding Vertica loads."),
+                        validator.getProblems());
+  }
+
+  @Test
+  public void testMaxProblems() throws IOException {
+    SampleValidator validator = new SampleValidator(",", 1);
+    validate(validator, "x\n", 10);
+    validate(validator, "y\n", 10);
+    Assert.assertEquals(1, validator.getProblems().size());
+  }
+
+  @Test
+  public void testCopyOptions() throws IOException {
+    CopyStatement format = CopyStatement.builder().setDelimiter(",").setEnclosedBy("\"").setNullAs("\\N")
+      .setNoEscape(true).build();
+    SampleValidator validator = new SampleValidator(format, 10);
+    validate(validator, "1,\"2.5\",t,\"a, \"\"b\"\"\"\n2,\\N,f,c:\\d\n", 10);
+    Assert.assertEquals(Collections.emptyList(), validator.getProblems());
+
+    validate(validator, "\\N,1,t,x\n", 10);
+    Assert.assertEquals(Collections.singletonList(
+      "File f line 1 has a '\\N' field 1, which is loaded as NULL into NOT NULL column id."), validator.getProblems());
+  }
+
+  @Test
+  public void testSplit() {
+    Assert.assertEquals(Arrays.asList("a", "b,c", "", "d"), SampleValidator.split("a,b\\,c,,d", ","));
+    Assert.assertEquals(Arrays.asList("a", "b"), SampleValidator.split("a||b", "||"));
+    Assert.assertEquals(Collections.singletonList(""), SampleValidator.split("", ","));
+    Assert.assertEquals(Arrays.asList("a,b", "c\"d", "\\e"),
+                        SampleValidator.split("\"a,b\",\"c\"\"d\",\\e", ",", "\"", false));
+  }
+
+  private static void validate(SampleValidator validator, String content, int maxLines) throws IOException {
+    validator.validate("f", new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), maxLines, COLUMNS);
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import io.cdap.cdap.etl.mock.common.NoopMetrics;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ServerSideLoaderTest {
+
+  private static final CompressionCodecFactory CODECS = new CompressionCodecFactory(new Configuration());
+  private static final VerticaImportConfig CONFIG = VerticaImportConfig.builder()
+    .setConnectionString("jdbc:vertica://localhost:5433/test")
+    .setLevel("Basic")
+    .setTableName("events")
+    .setDelimiter("|")
+    .setPath("hdfs://nn/data")
+    .setAutoCommit("false")
+    .setLoadMode(VerticaImportConfig.LOAD_MODE_SERVER)
+    .build();
+
+  @Test
+  public void testBasicStatement() {
+    List<String> statements = new ServerSideLoader(CONFIG, CODECS).buildStatements(
+      Arrays.asList(file("hdfs://nn/data/part-0"), file("hdfs://nn/data/it's")));
+
+    Assert.assertEquals(Collections.singletonList(
+      "COPY events FROM 'hdfs://nn/data/part-0' ON ANY NODE, 'hdfs://nn/data/it''s' ON ANY NODE DELIMITER '|'"),
+                        statements);
+  }
+
+  @Test
+  public void testCompressedFiles() {
+    List<String> statements = new ServerSideLoader(CONFIG, CODECS).buildStatements(
+      Arrays.asList(file("hdfs://nn/data/part-0.gz"), file("hdfs://nn/data/part-1.bz2")));
+
+    Assert.assertEquals(Collections.singletonList(
+      "COPY events FROM 'hdfs://nn/data/part-0.gz' ON ANY NODE GZIP, 'hdfs://nn/data/part-1.bz2' ON ANY NODE BZIP " +
+        "DELIMITER '|'"), statements);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsupportedCompression() {
+    new ServerSideLoader(CONFIG, CODECS).buildStatements(Collections.singletonList(file("hdfs://nn/data/a.deflate")));
+  }
+
+  @Test
+  public void testStatementsAreChunked() {
+    List<FileStatus> files = new ArrayList<>();
+    for (int i = 0; i < ServerSideLoader.MAX_FILES_PER_STATEMENT + 1; i++) {
+      files.add(file("hdfs://nn/data/part-" + i));
+    }
+
+    List<String> statements = new ServerSideLoader(CONFIG, CODECS).buildStatements(files);
+    Assert.assertEquals(2, statements.size());
+    Assert.assertEquals("COPY events FROM 'hdfs://nn/data/part-1000' ON ANY NODE DELIMITER '|'", statements.get(1));
+  }
+
+  @Test
+  public void testCopyOptions() {
+    VerticaImportConfig config = VerticaImportConfig.builder(CONFIG)
+      .setCopyColumns("id, payload")
+      .setEnclosedBy("\"")
+      .setNoEscape("true")
+      .setAbortOnError("true")
+      .setLoadMethod(VerticaImportConfig.LOAD_METHOD_TRICKLE)
+      .build();
+
+    Assert.assertEquals(Collections.singletonList(
+      "COPY events (id, payload) FROM 'hdfs://nn/data/part-0' ON ANY NODE DELIMITER '|' ENCLOSED BY '\"' NO ESCAPE " +
+        "ABORT ON ERROR TRICKLE"),
+                        new ServerSideLoader(config, CODECS)
+                          .buildStatements(Collections.singletonList(file("hdfs://nn/data/part-0"))));
+  }
+
+  @Test
+  public void testColumnarFiles() {
+    VerticaImportConfig config = VerticaImportConfig.builder(CONFIG).setFormat(VerticaImportConfig.FORMAT_ORC).build();
+
+    Assert.assertEquals(Collections.singletonList(
+      "COPY events FROM 'hdfs://nn/data/part-0.orc' ON ANY NODE, 'hdfs://nn/data/part-1.orc' ON ANY NODE ORC"),
+                        new ServerSideLoader(config, CODECS).buildStatements(
+                          Arrays.asList(file("hdfs://nn/data/part-0.orc"), file("hdfs://nn/data/part-1.orc"))));
+  }
+
+  @Test
+  public void testAutomaticLoadMethod() {
+    VerticaImportConfig config = VerticaImportConfig.builder(CONFIG).setDirectThresholdBytes(20L).build();
+    ServerSideLoader loader = new ServerSideLoader(config, CODECS);
+
+    Assert.assertEquals(Collections.singletonList("COPY events FROM 'hdfs://nn/data/a' ON ANY NODE DELIMITER '|'"),
+                        loader.buildStatements(Collections.singletonList(file("hdfs://nn/data/a"))));
+    Assert.assertEquals(Collections.singletonList(
+      "COPY events FROM 'hdfs://nn/data/a' ON ANY NODE, 'hdfs://nn/data/b' ON ANY NODE DELIMITER '|' DIRECT"),
+                        loader.buildStatements(Arrays.asList(file("hdfs://nn/data/a"), file("hdfs://nn/data/b"))));
+  }
+
+  @Test
+  public void testAdvancedStatementIsUsedAsIs() {
+    VerticaImportConfig config = VerticaImportConfig.builder(CONFIG)
+      .setLevel("Advanced")
+      .setCopyStatement("COPY events FROM 'hdfs:///data/*' ON ANY NODE DIRECT")
+      .build();
+
+    Assert.assertEquals(Collections.singletonList("COPY events FROM 'hdfs:///data/*' ON ANY NODE DIRECT"),
+                        new ServerSideLoader(config, CODECS)
+                          .buildStatements(Collections.singletonList(file("hdfs://nn/a"))));
+  }
+
+  @Test
+  public void testAdvancedStatementDoesNotReportListedFiles() throws Exception {
+    VerticaImportConfig config = VerticaImportConfig.builder(CONFIG)
+      .setLevel("Advanced")
+      .setCopyStatement("COPY events FROM 'hdfs:///other/*' ON ANY NODE")
+      .build();
+    List<String> executed = new ArrayList<>();
+
+    LoadResult result = new ServerSideLoader(config, CODECS).load(
+      connection(executed, 7, 1), Arrays.asList(file("hdfs://nn/data/a"), file("hdfs://nn/data/b")), null,
+      new LoadMetrics(NoopMetrics.INSTANCE), new RejectTracker(null, null));
+
+    Assert.assertEquals(Collections.singletonList("COPY events FROM 'hdfs:///other/*' ON ANY NODE"), executed);
+    Assert.assertEquals(7, result.getRowsInserted());
+    Assert.assertEquals(1, result.getRowsRejected());
+    Assert.assertEquals(0, result.getRangesLoaded());
+    Assert.assertEquals(0, result.getBytesLoaded());
+  }
+
+  @Test
+  public void testBasicStatementsReportFiles() throws Exception {
+    LoadResult result = new ServerSideLoader(CONFIG, CODECS).load(
+      connection(new ArrayList<>(), 7, 0), Arrays.asList(file("hdfs://nn/data/a"), file("hdfs://nn/data/b")), null,
+      new LoadMetrics(NoopMetrics.INSTANCE), new RejectTracker(null, null));
+
+    Assert.assertEquals(7, result.getRowsInserted());
+    Assert.assertEquals(2, result.getRangesLoaded());
+    Assert.assertEquals(20, result.getBytesLoaded());
+  }
+
+  /**
+   * Returns a connection recording the executed statements, whose statements report the given row counts.
+   */
+  private static Connection connection(List<String> executed, long accepted, long rejected) {
+    ResultSet counts = proxy(ResultSet.class, (method, args) -> {
+      switch (method) {
+        case "next":
+          return true;
+        case "getLong":
+          return (int) args[0] == 1 ? accepted : rejected;
+        default:
+          return null;
+      }
+    });
+    Statement statement = proxy(Statement.class, (method, args) -> {
+      switch (method) {
+        case "execute":
+          executed.add((String) args[0]);
+          return true;
+        case "executeQuery":
+          return counts;
+        default:
+          return null;
+      }
+    });
+    return proxy(Connection.class, (method, args) -> method.equals("createStatement") ? statement : null);
+  }
+
+  private static <T> T proxy(Class<T> type, Handler handler) {
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                                            (proxy, method, args) -> handler.invoke(method.getName(), args)));
+  }
+
+  private interface Handler {
+    Object invoke(String method, Object[] args);
+  }
+
+  private static FileStatus file(String path) {
+    return new FileStatus(10, false, 1, 1, 0, new Path(path));
+  }
+}
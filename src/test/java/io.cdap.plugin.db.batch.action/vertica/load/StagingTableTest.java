@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class StagingTableTest {
+
+  @Test
+  public void testMergeStatement() {
+    StagingTable staging = new StagingTable("orders", "orders_staging", StagingTable.Publish.MERGE,
+                                            Arrays.asList("customer_id", "ORDER_ID"));
+    Assert.assertEquals(
+      "MERGE /*+DIRECT*/ INTO orders t USING orders_staging s ON t.customer_id = s.customer_id " +
+        "AND t.ORDER_ID = s.ORDER_ID WHEN MATCHED THEN UPDATE SET \"amount\" = s.\"amount\" " +
+        "WHEN NOT MATCHED THEN INSERT (\"customer_id\", \"order_id\", \"amount\") " +
+        "VALUES (s.\"customer_id\", s.\"order_id\", s.\"amount\")",
+      staging.buildMergeStatement(Arrays.asList("customer_id", "order_id", "amount")));
+  }
+
+  @Test
+  public void testMergeStatementWithOnlyKeys() {
+    StagingTable staging = new StagingTable("tags", "tags_staging", StagingTable.Publish.MERGE,
+                                            Collections.singletonList("\"tag\""));
+    Assert.assertEquals(
+      "MERGE /*+DIRECT*/ INTO tags t USING tags_staging s ON t.\"tag\" = s.\"tag\" " +
+        "WHEN NOT MATCHED THEN INSERT (\"tag\") VALUES (s.\"tag\")",
+      staging.buildMergeStatement(Collections.singletonList("tag")));
+  }
+
+  @Test
+  public void testOf() {
+    VerticaImportConfig config = VerticaImportConfig.builder()
+      .setTableName("orders")
+      .setPublishMode(VerticaImportConfig.PUBLISH_MODE_MERGE)
+      .setMergeKeys(" id ,")
+      .build();
+    Assert.assertEquals("orders_staging_0f3a", StagingTable.of(config, "0f3a").getName());
+    Assert.assertEquals(Collections.singletonList("id"), config.getMergeKeys());
+  }
+
+  @Test
+  public void testOfNamedStagingTable() {
+    VerticaImportConfig config = VerticaImportConfig.builder()
+      .setTableName("orders")
+      .setPublishMode(VerticaImportConfig.PUBLISH_MODE_INSERT)
+      .setStagingTable("orders_load")
+      .build();
+    Assert.assertEquals("orders_load", StagingTable.of(config, "0f3a").getName());
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class TableMappingTest {
+  private static final CopyStatement TEMPLATE = CopyStatement.builder().setDelimiter(",").build();
+
+  @Test
+  public void testParse() {
+    List<TableMapping> mappings = TableMapping.parse(
+      "orders:sales.orders; events/*.csv : COPY events (id, payload) FROM STDIN DELIMITER ':' ;", TEMPLATE);
+    Assert.assertEquals(2, mappings.size());
+    Assert.assertEquals("sales.orders", mappings.get(0).getTable());
+    Assert.assertEquals("COPY sales.orders FROM STDIN DELIMITER ','", mappings.get(0).getCopyStatement());
+    Assert.assertTrue(mappings.get(0).namesTable());
+    Assert.assertEquals("events/*.csv", mappings.get(1).getPattern());
+    Assert.assertEquals("events", mappings.get(1).getTable());
+    Assert.assertEquals("COPY events (id, payload) FROM STDIN DELIMITER ':'", mappings.get(1).getCopyStatement());
+    Assert.assertFalse(mappings.get(1).namesTable());
+  }
+
+  @Test
+  public void testFind() {
+    List<TableMapping> mappings = TableMapping.parse("orders:orders;*/customers-*:customers;*:other", TEMPLATE);
+    Assert.assertEquals("orders", TableMapping.find(mappings, "orders/2026/part-0").getTable());
+    Assert.assertEquals("customers", TableMapping.find(mappings, "crm/customers-0.csv").getTable());
+    // The glob '*' also matches '/'
+    Assert.assertEquals("other", TableMapping.find(mappings, "crm/leads/part-0").getTable());
+    Assert.assertNull(TableMapping.find(mappings.subList(0, 2), "crm/leads/part-0"));
+  }
+
+  @Test
+  public void testParseQuotedSeparator() {
+    List<TableMapping> mappings = TableMapping.parse(
+      "events:COPY events FROM STDIN DELIMITER ';' NULL AS 'it''s;null';orders:orders", TEMPLATE);
+    Assert.assertEquals(2, mappings.size());
+    Assert.assertEquals("COPY events FROM STDIN DELIMITER ';' NULL AS 'it''s;null'",
+                        mappings.get(0).getCopyStatement());
+    Assert.assertEquals("orders", mappings.get(1).getTable());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseUnclosedQuote() {
+    TableMapping.parse("events:COPY events FROM STDIN DELIMITER ';;orders:orders", TEMPLATE);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseEntryWithoutTarget() {
+    TableMapping.parse("orders", TEMPLATE);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseTableWithoutDelimiter() {
+    TableMapping.parse("orders:orders", CopyStatement.builder().build());
+  }
+
+  @Test
+  public void testAvroTableWithoutDelimiter() {
+    CopyStatement template = CopyStatement.builder().setParser("PARSER FAVROPARSER()").build();
+    Assert.assertEquals("COPY orders FROM STDIN PARSER FAVROPARSER()",
+                        TableMapping.parse("orders:orders", template).get(0).getCopyStatement());
+  }
+
+  @Test
+  public void testTableIsCopiedWithOptions() {
+    CopyStatement template = CopyStatement.builder(TEMPLATE).setNullAs("\\N").setRejectMax(10L).build();
+    Assert.assertEquals("COPY orders FROM STDIN DELIMITER ',' NULL AS '\\N' REJECTMAX 10",
+                        TableMapping.parse("orders:orders", template).get(0).getCopyStatement());
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TableMetadataTest {
+
+  @Test
+  public void testQualifiedTableExists() throws Exception {
+    List<String> queries = new ArrayList<>();
+    Connection connection = connection(queries, "sales.orders");
+    TableMetadata metadata = new TableMetadata();
+
+    Assert.assertTrue(metadata.exists(connection, "sales.orders"));
+    Assert.assertEquals(Collections.singletonList("id"), metadata.getColumnNames(connection, "sales.orders"));
+    // The table is only read once
+    Assert.assertEquals(Collections.singletonList("SELECT * FROM sales.orders LIMIT 0"), queries);
+  }
+
+  @Test
+  public void testMissingTable() throws Exception {
+    List<String> queries = new ArrayList<>();
+    Connection connection = connection(queries, "my_table");
+    TableMetadata metadata = new TableMetadata();
+
+    // The name is not a pattern, so an underscore only matches itself
+    Assert.assertFalse(metadata.exists(connection, "myXtable"));
+    Assert.assertFalse(metadata.exists(connection, "myXtable"));
+    Assert.assertFalse(metadata.exists(connection, "missing.my_table"));
+    Assert.assertTrue(metadata.exists(connection, "my_table"));
+    Assert.assertEquals(Arrays.asList("SELECT * FROM myXtable LIMIT 0", "SELECT * FROM missing.my_table LIMIT 0",
+                                      "SELECT * FROM my_table LIMIT 0"), queries);
+  }
+
+  @Test
+  public void testOtherFailuresPropagate() {
+    Connection connection = proxy(Connection.class, (method, args) -> {
+      throw new SQLException("Permission denied for relation t", "42501");
+    });
+    try {
+      new TableMetadata().exists(connection, "t");
+      Assert.fail("A failure other than a missing table should not mean that the table does not exist");
+    } catch (SQLException e) {
+      Assert.assertEquals("42501", e.getSQLState());
+    }
+  }
+
+  /**
+   * Returns a connection recording the queries run, on which only the given table exists, with a single column.
+   */
+  private static Connection connection(List<String> queries, String table) {
+    ResultSetMetaData columns = proxy(ResultSetMetaData.class, (method, args) -> {
+      switch (method) {
+        case "getColumnCount":
+          return 1;
+        case "getColumnName":
+          return "id";
+        case "getColumnType":
+          return Types.BIGINT;
+        case "getColumnTypeName":
+          return "Integer";
+        case "isNullable":
+          return ResultSetMetaData.columnNoNulls;
+        default:
+          return null;
+      }
+    });
+    ResultSet empty = proxy(ResultSet.class, (method, args) -> method.equals("getMetaData") ? columns : null);
+    Statement statement = proxy(Statement.class, (method, args) -> {
+      if (!method.equals("executeQuery")) {
+        return null;
+      }
+      String query = (String) args[0];
+      queries.add(query);
+      if (query.equals(String.format("SELECT * FROM %s LIMIT 0", table))) {
+        return empty;
+      }
+      if (query.contains(".") && !table.contains(".")) {
+        throw new SQLException("Schema does not exist", "3F000");
+      }
+      throw new SQLException("Relation does not exist", "42V01");
+    });
+    return proxy(Connection.class, (method, args) -> method.equals("createStatement") ? statement : null);
+  }
+
+  private static <T> T proxy(Class<T> type, Handler handler) {
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                                            (proxy, method, args) -> handler.invoke(method.getName(), args)));
+  }
+
+  private interface Handler {
+    Object invoke(String method, Object[] args) throws SQLException;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.cdap.plugin.db.batch.action.vertica.load;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ThrottleTest {
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  public void testTokenBucket() {
+    Throttle throttle = new Throttle(1000, 4, 0);
+    // The bucket starts with one second of bytes
+    Assert.assertEquals(0, throttle.reserve(1000, 0));
+    Assert.assertEquals(SECOND / 2, throttle.reserve(500, 0));
+    // The debt is paid back after half a second, and the bucket refills at the rate
+    Assert.assertEquals(0, throttle.reserve(500, SECOND));
+  }
+
+  @Test
+  public void testUnlimitedRate() {
+    Throttle throttle = new Throttle(0, 4, 0);
+    Assert.assertEquals(0, throttle.reserve(Long.MAX_VALUE / 2, 0));
+  }
+
+  @Test
+  public void testAdaptToQueuedRequests() {
+    Throttle throttle = new Throttle(1_000_000, 4, 0);
+    throttle.adapt(3, SECOND);
+    Assert.assertEquals(500_000, throttle.getBytesPerSecond());
+    Assert.assertEquals(2, throttle.getStreamLimit());
+    // The queue keeps growing
+    throttle.adapt(5, 2 * SECOND);
+    Assert.assertEquals(250_000, throttle.getBytesPerSecond());
+    Assert.assertEquals(1, throttle.getStreamLimit());
+    // Recovery is gradual
+    throttle.adapt(0, 3 * SECOND);
+    Assert.assertEquals(350_000, throttle.getBytesPerSecond());
+    Assert.assertEquals(2, throttle.getStreamLimit());
+  }
+
+  @Test
+  public void testSteadyBacklogHoldsLimits() {
+    Throttle throttle = new Throttle(1_000_000, 4, 0);
+    throttle.adapt(3, SECOND);
+    Assert.assertEquals(500_000, throttle.getBytesPerSecond());
+    Assert.assertEquals(2, throttle.getStreamLimit());
+    // A backlog that does not grow, such as one of other users, neither lowers nor raises the limits
+    for (int i = 2; i < 10; i++) {
+      throttle.adapt(3, i * SECOND);
+      Assert.assertEquals(500_000, throttle.getBytesPerSecond());
+      Assert.assertEquals(2, throttle.getStreamLimit());
+    }
+    // A shrinking backlog lets the limits recover
+    throttle.adapt(2, 10 * SECOND);
+    Assert.assertEquals(600_000, throttle.getBytesPerSecond());
+    Assert.assertEquals(3, throttle.getStreamLimit());
+  }
+
+  @Test
+  public void testAdaptWithoutRate() {
+    Throttle throttle = new Throttle(0, 2, 0);
+    throttle.reserve(10_000_000, 0);
+    // Backs off from the measured throughput
+    throttle.adapt(1, SECOND);
+    Assert.assertEquals(5_000_000, throttle.getBytesPerSecond());
+    Assert.assertEquals(1, throttle.getStreamLimit());
+    // Once the rate no longer limits the load, it is lifted
+    throttle.reserve(1_000_000, SECOND);
+    throttle.adapt(0, 2 * SECOND);
+    Assert.assertEquals(0, throttle.getBytesPerSecond());
+    Assert.assertEquals(2, throttle.getStreamLimit());
+  }
+
+  @Test
+  public void testAdaptToThroughputDrop() throws InterruptedException {
+    Throttle throttle = new Throttle(0, 1, 0);
+    throttle.startStream();
+    throttle.reserve(1_000_000, 0);
+    throttle.adapt(0, SECOND);
+    Assert.assertEquals(0, throttle.getBytesPerSecond());
+    // Throughput halves while every stream is busy
+    throttle.reserve(400_000, SECOND);
+    throttle.adapt(0, 2 * SECOND);
+    Assert.assertEquals(200_000, throttle.getBytesPerSecond());
+    throttle.endStream();
+  }
+
+  @Test(timeout = 10000)
+  public void testStreamLimit() throws InterruptedException {
+    Throttle throttle = new Throttle(0, 1, 0);
+    throttle.startStream();
+    AtomicBoolean started = new AtomicBoolean();
+    Thread waiting = new Thread(() -> {
+      try {
+        throttle.startStream();
+        started.set(true);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    waiting.start();
+    waiting.join(200);
+    Assert.assertFalse(started.get());
+    throttle.endStream();
+    waiting.join();
+    Assert.assertTrue(started.get());
+  }
+}
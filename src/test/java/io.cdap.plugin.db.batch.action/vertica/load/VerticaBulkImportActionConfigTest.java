@@ -220,6 +220,440 @@ public class VerticaBulkImportActionConfigTest {
     assertValidationFailed(failureCollector, paramNames);
   }
 
+  @Test
+  public void testValidateParallelismLessThanOne() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setParallelism(0)
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.PARALLELISM));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testValidateSplitSizeLessThanOne() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setSplitSize(0L)
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.SPLIT_SIZE));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testValidateInvalidLoadMode() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setLoadMode("Carrier pigeon")
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.LOAD_MODE));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testValidateServerLoadModeAndStdinCopyStatement() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setLevel("Advanced")
+      .setCopyStatement("COPY tableName FROM STDIN DELIMITER ','")
+      .setLoadMode(VerticaImportConfig.LOAD_MODE_SERVER)
+      .build();
+    List<List<String>> paramNames = Collections.singletonList(
+      Arrays.asList(VerticaImportConfig.LOAD_MODE, VerticaImportConfig.COPY_STATEMENT));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+  }
+
+  @Test
+  public void testValidateServerLoadModeAdvancedWithManifest() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setLevel("Advanced")
+      .setCopyStatement("COPY tableName FROM 'hdfs:///data/*' ON ANY NODE DELIMITER ','")
+      .setLoadMode(VerticaImportConfig.LOAD_MODE_SERVER)
+      .setManifestTable("load_manifest")
+      .build();
+    List<List<String>> paramNames = Collections.singletonList(
+      Arrays.asList(VerticaImportConfig.LOAD_MODE, VerticaImportConfig.MANIFEST_TABLE));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+  }
+
+  @Test
+  public void testValidateMaxRejectPercentAboveHundred() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setMaxRejectPercent(150.0)
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.MAX_REJECT_PERCENT));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testValidateCommitRowsNotPositive() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setCommitRows(0L)
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.COMMIT_ROWS));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testValidateCommitCadenceWithAutoCommit() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setAutoCommit("true")
+      .setCommitIntervalSeconds(60L)
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.AUTO_COMMIT));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testValidateInvalidPublishMode() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setPublishMode("Replace")
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.PUBLISH_MODE));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testValidateInvalidLoadBalancing() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setLoadBalancing("Random")
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.LOAD_BALANCING));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testValidateInvalidThrottle() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setThrottleBytesPerSecond(0L)
+      .setMaxConcurrentStreams(0)
+      .build();
+    List<List<String>> paramNames = Arrays.asList(
+      Collections.singletonList(VerticaImportConfig.THROTTLE_BYTES_PER_SECOND),
+      Collections.singletonList(VerticaImportConfig.MAX_CONCURRENT_STREAMS));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+  }
+
+  @Test
+  public void testThrottleDefaults() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setParallelism(4)
+      .build();
+    Assert.assertFalse(config.isThrottled());
+    Assert.assertEquals(4, config.getMaxConcurrentStreams());
+    Assert.assertTrue(VerticaImportConfig.builder(config).setMaxConcurrentStreams(2).build().isThrottled());
+  }
+
+  @Test
+  public void testValidateInvalidRetries() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setMaxRetries(-1)
+      .setRetryBackoffMillis(0L)
+      .build();
+    List<List<String>> paramNames = Arrays.asList(
+      Collections.singletonList(VerticaImportConfig.MAX_RETRIES),
+      Collections.singletonList(VerticaImportConfig.RETRY_BACKOFF_MILLIS));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+  }
+
+  @Test
+  public void testValidateRetriesWithServerLoadMode() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setMaxRetries(3)
+      .setLoadMode(VerticaImportConfig.LOAD_MODE_SERVER)
+      .setRetryMaxBackoffMillis(100L)
+      .build();
+    List<List<String>> paramNames = Arrays.asList(
+      Arrays.asList(VerticaImportConfig.MAX_RETRIES, VerticaImportConfig.LOAD_MODE),
+      Collections.singletonList(VerticaImportConfig.RETRY_MAX_BACKOFF_MILLIS));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+  }
+
+  @Test
+  public void testValidateInvalidCopyOptions() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setEnclosedBy("ab")
+      .setRejectMax(-1L)
+      .setLoadMethod("Fast")
+      .setDirectThresholdBytes(0L)
+      .build();
+    List<List<String>> paramNames = Arrays.asList(
+      Collections.singletonList(VerticaImportConfig.ENCLOSED_BY),
+      Collections.singletonList(VerticaImportConfig.REJECT_MAX),
+      Collections.singletonList(VerticaImportConfig.LOAD_METHOD),
+      Collections.singletonList(VerticaImportConfig.DIRECT_THRESHOLD_BYTES));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+  }
+
+  @Test
+  public void testValidateConflictingCopyOptions() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setEnclosedBy(",")
+      .setRejectMax(10L)
+      .setAbortOnError("true")
+      .setCopyColumns("id,dt")
+      .setPartitionColumns("dt")
+      .build();
+    List<List<String>> paramNames = Arrays.asList(
+      Arrays.asList(VerticaImportConfig.ENCLOSED_BY, VerticaImportConfig.DELIMITER),
+      Arrays.asList(VerticaImportConfig.REJECT_MAX, VerticaImportConfig.ABORT_ON_ERROR),
+      Arrays.asList(VerticaImportConfig.COPY_COLUMNS, VerticaImportConfig.PARTITION_COLUMNS));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+  }
+
+  @Test
+  public void testValidateEnclosedByWithLineCounting() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setEnclosedBy("\"")
+      .setSplitSize(1024L)
+      .setBatchMaxFiles(10)
+      .setRejectsPath("/rejects")
+      .build();
+    List<List<String>> paramNames = Arrays.asList(
+      Arrays.asList(VerticaImportConfig.ENCLOSED_BY, VerticaImportConfig.SPLIT_SIZE),
+      Arrays.asList(VerticaImportConfig.ENCLOSED_BY, VerticaImportConfig.BATCH_MAX_FILES),
+      Arrays.asList(VerticaImportConfig.ENCLOSED_BY, VerticaImportConfig.REJECTS_PATH,
+                    VerticaImportConfig.MAX_REJECT_PERCENT, VerticaImportConfig.COMMIT_ROWS));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+  }
+
+  @Test
+  public void testEnclosedByWithServerLoadMode() {
+    // Vertica counts the rows itself when it reads the files
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setEnclosedBy("\"")
+      .setLoadMode(VerticaImportConfig.LOAD_MODE_SERVER)
+      .setMaxRejectPercent(10.0)
+      .build();
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    Assert.assertEquals(0, failureCollector.getValidationFailures().size());
+  }
+
+  @Test
+  public void testValidateFormat() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setFormat("Json")
+      .build();
+    List<List<String>> paramNames = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.FORMAT));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+  }
+
+  @Test
+  public void testValidateStreamedParquet() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setFormat(VerticaImportConfig.FORMAT_PARQUET)
+      .setDelimiter(null)
+      .build();
+    List<List<String>> paramNames = Collections.singletonList(
+      Arrays.asList(VerticaImportConfig.FORMAT, VerticaImportConfig.LOAD_MODE));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+
+    failureCollector = new MockFailureCollector(MOCK_STAGE);
+    VerticaImportConfig.builder(config).setLoadMode(VerticaImportConfig.LOAD_MODE_SERVER).build()
+      .validate(failureCollector);
+    Assert.assertTrue(failureCollector.getValidationFailures().isEmpty());
+  }
+
+  @Test
+  public void testValidateStreamedAvro() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setFormat(VerticaImportConfig.FORMAT_AVRO)
+      .setNullAs("\\N")
+      .setSplitSize(1024L)
+      .setBatchMaxFiles(10)
+      .setRejectsPath("/rejects")
+      .build();
+    List<List<String>> paramNames = Arrays.asList(
+      Arrays.asList(VerticaImportConfig.FORMAT, VerticaImportConfig.ENCLOSED_BY, VerticaImportConfig.NULL_AS,
+                    VerticaImportConfig.NO_ESCAPE),
+      Arrays.asList(VerticaImportConfig.FORMAT, VerticaImportConfig.SPLIT_SIZE),
+      Arrays.asList(VerticaImportConfig.FORMAT, VerticaImportConfig.BATCH_MAX_FILES),
+      Arrays.asList(VerticaImportConfig.FORMAT, VerticaImportConfig.REJECTS_PATH,
+                    VerticaImportConfig.MAX_REJECT_PERCENT, VerticaImportConfig.COMMIT_ROWS));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+  }
+
+  @Test
+  public void testLoadMethod() {
+    Assert.assertTrue(VALID_CONFIG.isAutomaticLoadMethod());
+    Assert.assertNull(VALID_CONFIG.getFixedLoadMethod());
+    Assert.assertEquals(100L * 1024 * 1024, VALID_CONFIG.getDirectThresholdBytes());
+    Assert.assertEquals(CopyStatement.LoadMethod.DIRECT,
+                        VerticaImportConfig.builder(VALID_CONFIG).setLoadMethod("direct").build().getFixedLoadMethod());
+  }
+
+  @Test
+  public void testValidateInvalidPreflightSample() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setPreflightSampleFiles(0)
+      .setPreflightSampleLines(-1)
+      .build();
+    List<List<String>> paramNames = Arrays.asList(
+      Collections.singletonList(VerticaImportConfig.PREFLIGHT_SAMPLE_FILES),
+      Collections.singletonList(VerticaImportConfig.PREFLIGHT_SAMPLE_LINES));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramNames);
+  }
+
+  @Test
+  public void testValidateStagingWithAdvancedLevel() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setLevel("Advanced")
+      .setCopyStatement("COPY tableName FROM STDIN")
+      .setPublishMode(VerticaImportConfig.PUBLISH_MODE_INSERT)
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Arrays.asList(VerticaImportConfig.PUBLISH_MODE, VerticaImportConfig.LEVEL));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testValidateMergeWithoutKeys() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setPublishMode(VerticaImportConfig.PUBLISH_MODE_MERGE)
+      .setMergeKeys(" , ")
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.MERGE_KEYS));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testValidatePartitionColumnsWithServerLoadMode() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setLoadMode(VerticaImportConfig.LOAD_MODE_SERVER)
+      .setPartitionColumns("dt")
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Arrays.asList(VerticaImportConfig.PARTITION_COLUMNS, VerticaImportConfig.LOAD_MODE));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testTableMappingsWithoutTableName() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setTableName(null)
+      .setTableMappings("orders:orders;events:COPY events FROM STDIN")
+      .build();
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    Assert.assertTrue(failureCollector.getValidationFailures().isEmpty());
+  }
+
+  @Test
+  public void testValidateInvalidTableMappings() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setTableMappings("orders")
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.TABLE_MAPPINGS));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
+  @Test
+  public void testDefaultStagingTable() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setPublishMode(VerticaImportConfig.PUBLISH_MODE_SWAP)
+      .build();
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    Assert.assertTrue(failureCollector.getValidationFailures().isEmpty());
+    Assert.assertTrue(config.isStaged());
+    Assert.assertTrue(config.isSwapPartitions());
+    Assert.assertNull(config.getStagingTable());
+  }
+
+  @Test
+  public void testValidateInvalidIncludeFiles() {
+    VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)
+      .setIncludeFiles("part-{0,1")
+      .build();
+    List<List<String>> paramName = Collections.singletonList(
+      Collections.singletonList(VerticaImportConfig.INCLUDE_FILES));
+
+    MockFailureCollector failureCollector = new MockFailureCollector(MOCK_STAGE);
+    config.validate(failureCollector);
+    assertValidationFailed(failureCollector, paramName);
+  }
+
   @Test
   public void testValidateSeveralFailedConfig() {
     VerticaImportConfig config = VerticaImportConfig.builder(VALID_CONFIG)